@@ -0,0 +1,209 @@
+package com.enuygun.qa.analysis;
+
+import com.enuygun.qa.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel price aggregation over a {@link FlightDataset}
+ *
+ * Features:
+ * - Min, average, median, p90, count and price per minute per airline, departure hour and route
+ * - Fork-join reduction over fixed-size chunks of the primitive column arrays
+ * - Group-by via per-chunk counting, prefix sums and a parallel scatter (no boxing, no maps)
+ */
+public class FlightAnalyticsEngine {
+    private static final Logger logger = LoggerFactory.getLogger(FlightAnalyticsEngine.class);
+    private static final int CHUNK_SIZE = 8192;
+    private static final int HOURS_PER_DAY = 24;
+
+    private final ForkJoinPool pool;
+
+    public FlightAnalyticsEngine() {
+        this(ConfigManager.getIntProperty("analysis.parallelism", Runtime.getRuntime().availableProcessors()));
+    }
+
+    public FlightAnalyticsEngine(int parallelism) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Aggregates the dataset by airline, departure hour bucket and route
+     */
+    public FlightAnalyticsReport analyze(FlightDataset dataset) {
+        long start = System.nanoTime();
+        int size = dataset.size();
+
+        int[] hours = new int[size];
+        int[] departureMinutes = dataset.departureMinutes();
+        forEachChunk(size, chunk -> {
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, size); i++) {
+                hours[i] = departureMinutes[i] < 0 ? -1 : departureMinutes[i] / 60;
+            }
+        });
+
+        List<String> hourLabels = new ArrayList<>(HOURS_PER_DAY);
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            hourLabels.add(String.format("%02d:00-%02d:00", hour, (hour + 1) % HOURS_PER_DAY));
+        }
+
+        FlightAnalyticsReport report = new FlightAnalyticsReport(size,
+                aggregate(dataset, dataset.airlines(), dataset.airlineNames()),
+                aggregate(dataset, hours, hourLabels),
+                aggregate(dataset, dataset.routes(), dataset.routeNames()));
+
+        logger.info("Analyzed {} flight rows in {} ms", size, (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Releases the worker threads
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private List<PriceStats> aggregate(FlightDataset dataset, int[] groupIds, List<String> groupNames) {
+        int size = dataset.size();
+        int groups = groupNames.size();
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        double[] prices = dataset.prices();
+        int[] durations = dataset.durationMinutes();
+
+        // 1. Count valid rows per group in every chunk
+        int[][] chunkCounts = new int[chunks][groups];
+        forEachChunk(size, chunk -> {
+            int[] counts = chunkCounts[chunk];
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, size); i++) {
+                if (isValid(prices[i], groupIds[i])) {
+                    counts[groupIds[i]]++;
+                }
+            }
+        });
+
+        // 2. Prefix sums give each group a slice and each chunk a write position inside it
+        int[] groupStart = new int[groups + 1];
+        int[][] writeOffsets = new int[chunks][groups];
+        for (int group = 0; group < groups; group++) {
+            int offset = groupStart[group];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                writeOffsets[chunk][group] = offset;
+                offset += chunkCounts[chunk][group];
+            }
+            groupStart[group + 1] = offset;
+        }
+
+        // 3. Scatter prices and price per minute into the group slices
+        int total = groupStart[groups];
+        double[] groupedPrices = new double[total];
+        double[] groupedPricePerMinute = new double[total];
+        forEachChunk(size, chunk -> {
+            int[] offsets = writeOffsets[chunk];
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, size); i++) {
+                if (isValid(prices[i], groupIds[i])) {
+                    int position = offsets[groupIds[i]]++;
+                    groupedPrices[position] = prices[i];
+                    groupedPricePerMinute[position] = durations[i] > 0 ? prices[i] / durations[i] : Double.NaN;
+                }
+            }
+        });
+
+        // 4. Sort each slice and reduce it to statistics
+        PriceStats[] stats = new PriceStats[groups];
+        forEach(groups, group -> stats[group] = summarize(groupNames.get(group), groupedPrices,
+                                                          groupedPricePerMinute, groupStart[group], groupStart[group + 1]));
+
+        List<PriceStats> result = new ArrayList<>(groups);
+        for (PriceStats stat : stats) {
+            if (stat != null) {
+                result.add(stat);
+            }
+        }
+        return result;
+    }
+
+    private static PriceStats summarize(String group, double[] prices, double[] pricePerMinute, int from, int to) {
+        int count = to - from;
+        if (count == 0) {
+            return null;
+        }
+        Arrays.sort(prices, from, to);
+
+        double sum = 0;
+        double ratioSum = 0;
+        int ratioCount = 0;
+        for (int i = from; i < to; i++) {
+            sum += prices[i];
+            if (!Double.isNaN(pricePerMinute[i])) {
+                ratioSum += pricePerMinute[i];
+                ratioCount++;
+            }
+        }
+
+        return new PriceStats(group, count, prices[from], sum / count,
+                              percentile(prices, from, count, 50), percentile(prices, from, count, 90),
+                              ratioCount == 0 ? Double.NaN : ratioSum / ratioCount);
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted slice
+     */
+    private static double percentile(double[] sorted, int from, int count, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[from + Math.max(rank, 1) - 1];
+    }
+
+    private static boolean isValid(double price, int groupId) {
+        return groupId >= 0 && !Double.isNaN(price);
+    }
+
+    private static int chunkStart(int chunk) {
+        return chunk * CHUNK_SIZE;
+    }
+
+    private static int chunkEnd(int chunk, int size) {
+        return Math.min(size, (chunk + 1) * CHUNK_SIZE);
+    }
+
+    private void forEachChunk(int size, IntConsumer chunkAction) {
+        forEach((size + CHUNK_SIZE - 1) / CHUNK_SIZE, chunkAction);
+    }
+
+    private void forEach(int count, IntConsumer action) {
+        if (count > 0) {
+            pool.invoke(new IndexRangeTask(0, count, action));
+        }
+    }
+
+    /**
+     * Splits an index range in halves until single indexes remain
+     */
+    private static class IndexRangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        IndexRangeTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new IndexRangeTask(from, middle, action), new IndexRangeTask(middle, to, action));
+        }
+    }
+}
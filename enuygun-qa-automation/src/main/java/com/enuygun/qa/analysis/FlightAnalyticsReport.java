@@ -0,0 +1,42 @@
+package com.enuygun.qa.analysis;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of {@link FlightAnalyticsEngine#analyze(FlightDataset)}
+ */
+public class FlightAnalyticsReport {
+
+    private final int rowCount;
+    private final List<PriceStats> byAirline;
+    private final List<PriceStats> byDepartureHour;
+    private final List<PriceStats> byRoute;
+
+    public FlightAnalyticsReport(int rowCount, List<PriceStats> byAirline,
+                                 List<PriceStats> byDepartureHour, List<PriceStats> byRoute) {
+        this.rowCount = rowCount;
+        this.byAirline = Collections.unmodifiableList(byAirline);
+        this.byDepartureHour = Collections.unmodifiableList(byDepartureHour);
+        this.byRoute = Collections.unmodifiableList(byRoute);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<PriceStats> getByAirline() {
+        return byAirline;
+    }
+
+    /**
+     * Statistics per one-hour departure bucket, e.g. "10:00-11:00"
+     */
+    public List<PriceStats> getByDepartureHour() {
+        return byDepartureHour;
+    }
+
+    public List<PriceStats> getByRoute() {
+        return byRoute;
+    }
+}
@@ -0,0 +1,34 @@
+package com.enuygun.qa.analysis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.enuygun.qa.pages.FlightListPage;
+import com.enuygun.qa.utils.ReportUtils;
+
+/**
+ * Streams the flight cards of a results page into the run's flight dataset
+ */
+public class FlightDataExporter {
+    private static final Logger logger = LoggerFactory.getLogger(FlightDataExporter.class);
+
+    private FlightDataExporter() {
+        // Utility class
+    }
+
+    /**
+     * Harvests the complete result list and appends every card to the current run's dataset
+     * @param flightListPage Loaded flight results page
+     * @param searchKey Search that produced the results
+     * @return Number of exported flight cards
+     */
+    public static int exportResults(FlightListPage flightListPage, SearchKey searchKey) {
+        return exportResults(flightListPage, searchKey, FlightDatasetWriter.forCurrentRun());
+    }
+
+    public static int exportResults(FlightListPage flightListPage, SearchKey searchKey, FlightDatasetWriter writer) {
+        int exported = flightListPage.harvestFlights(card -> writer.append(searchKey, card));
+        logger.info("Exported {} flights for {} to {}", exported, searchKey, writer.getFile());
+        ReportUtils.logInfo("Exported " + exported + " flights for " + searchKey + " to dataset " + writer.getFile().getFileName());
+        return exported;
+    }
+}
@@ -0,0 +1,189 @@
+package com.enuygun.qa.analysis;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented, primitive-array view of one or more flight dataset files.
+ * Text columns (airline, route) are dictionary encoded to int ids; unknown values are
+ * stored as NaN for prices and -1 for ids, durations and departure minutes.
+ */
+public class FlightDataset {
+    private static final Logger logger = LoggerFactory.getLogger(FlightDataset.class);
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<String, Integer> airlineIds = new HashMap<>();
+    private final Map<String, Integer> routeIds = new HashMap<>();
+    private final List<String> airlineNames = new ArrayList<>();
+    private final List<String> routeNames = new ArrayList<>();
+
+    private double[] prices = new double[INITIAL_CAPACITY];
+    private int[] durationMinutes = new int[INITIAL_CAPACITY];
+    private int[] departureMinutes = new int[INITIAL_CAPACITY];
+    private int[] airlines = new int[INITIAL_CAPACITY];
+    private int[] routes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Reads every flight-dataset CSV file in the directory (e.g. a month of nightly sweeps)
+     */
+    public static FlightDataset readDirectory(Path directory) {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "flight-dataset-*.csv")) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list flight datasets in " + directory, e);
+        }
+        files.sort(null);
+        return read(files);
+    }
+
+    /**
+     * Reads the given flight dataset CSV files with opencsv, row by row
+     */
+    public static FlightDataset read(List<Path> files) {
+        FlightDataset dataset = new FlightDataset();
+        for (Path file : files) {
+            dataset.readFile(file);
+        }
+        logger.info("Loaded {} flight rows from {} files", dataset.size, files.size());
+        return dataset;
+    }
+
+    /**
+     * Adds a single flight row
+     * @param route Route name, e.g. "Istanbul-Ankara"
+     * @param airline Airline name or null
+     * @param departureTime Departure time in HH:mm format or null
+     * @param price Price or NaN
+     * @param duration Duration in minutes or -1
+     */
+    public void add(String route, String airline, String departureTime, double price, int duration) {
+        ensureCapacity(size + 1);
+        prices[size] = price;
+        durationMinutes[size] = duration;
+        departureMinutes[size] = toMinuteOfDay(departureTime);
+        airlines[size] = encode(airline, airlineIds, airlineNames);
+        routes[size] = encode(route, routeIds, routeNames);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    double[] prices() {
+        return prices;
+    }
+
+    int[] durationMinutes() {
+        return durationMinutes;
+    }
+
+    int[] departureMinutes() {
+        return departureMinutes;
+    }
+
+    int[] airlines() {
+        return airlines;
+    }
+
+    int[] routes() {
+        return routes;
+    }
+
+    List<String> airlineNames() {
+        return airlineNames;
+    }
+
+    List<String> routeNames() {
+        return routeNames;
+    }
+
+    private void readFile(Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             CSVReader csvReader = new CSVReader(reader)) {
+            String[] header = csvReader.readNext();
+            if (header == null) {
+                return;
+            }
+            List<String> columns = Arrays.asList(header);
+            int origin = columns.indexOf("origin");
+            int destination = columns.indexOf("destination");
+            int departureTime = columns.indexOf("departureTime");
+            int price = columns.indexOf("price");
+            int airline = columns.indexOf("airline");
+            int duration = columns.indexOf("durationMinutes");
+            if (origin < 0 || destination < 0 || price < 0) {
+                logger.warn("Skipping {} - origin, destination and price columns are required", file);
+                return;
+            }
+
+            for (String[] row = csvReader.readNext(); row != null; row = csvReader.readNext()) {
+                add(row[origin] + "-" + row[destination],
+                    column(row, airline),
+                    column(row, departureTime),
+                    parseDouble(column(row, price)),
+                    parseInt(column(row, duration)));
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new IllegalStateException("Failed to read flight dataset: " + file, e);
+        }
+    }
+
+    private static String column(String[] row, int index) {
+        return index >= 0 && index < row.length && !row[index].isEmpty() ? row[index] : null;
+    }
+
+    private static double parseDouble(String value) {
+        return value == null ? Double.NaN : Double.parseDouble(value);
+    }
+
+    private static int parseInt(String value) {
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    private static int toMinuteOfDay(String time) {
+        if (time == null) {
+            return -1;
+        }
+        int separator = time.indexOf(':');
+        return Integer.parseInt(time.substring(0, separator)) * 60 + Integer.parseInt(time.substring(separator + 1));
+    }
+
+    private static int encode(String value, Map<String, Integer> ids, List<String> names) {
+        if (value == null) {
+            return -1;
+        }
+        return ids.computeIfAbsent(value, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > prices.length) {
+            int capacity = Math.max(required, prices.length * 2);
+            prices = Arrays.copyOf(prices, capacity);
+            durationMinutes = Arrays.copyOf(durationMinutes, capacity);
+            departureMinutes = Arrays.copyOf(departureMinutes, capacity);
+            airlines = Arrays.copyOf(airlines, capacity);
+            routes = Arrays.copyOf(routes, capacity);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.enuygun.qa.analysis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.config.TestConfig;
+import com.enuygun.qa.models.FlightCard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Append-only flight results dataset for the data-analysis track.
+ *
+ * Features:
+ * - One CSV file per test run under {@link ConfigManager#getAnalysisDirectory()}
+ * - Every row carries the search key and the time it was recorded
+ * - Rows are encoded straight into a direct buffer and written through a FileChannel,
+ *   so a long multi-route sweep never holds its results in heap
+ * - Thread-safe; parallel tests can share the run's writer
+ */
+public class FlightDatasetWriter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FlightDatasetWriter.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static final String[] COLUMNS = {
+        "recordedAt", "searchKey", "origin", "destination", "departureDate",
+        "departureTime", "price", "airline", "stops", "durationMinutes"
+    };
+
+    private static FlightDatasetWriter currentRun;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long rowCount;
+
+    public FlightDatasetWriter(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                write(String.join(TestConfig.CSV_DELIMITER, COLUMNS) + "\n");
+            }
+            logger.info("Flight dataset opened: {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open flight dataset: " + file, e);
+        }
+    }
+
+    /**
+     * Returns the dataset writer of the current test run, creating its file on first use.
+     * The writer is flushed and closed when the JVM exits.
+     */
+    public static synchronized FlightDatasetWriter forCurrentRun() {
+        if (currentRun == null) {
+            String fileName = String.format("flight-dataset-%s-%d%s",
+                LocalDateTime.now().format(RUN_ID_FORMAT), ProcessHandle.current().pid(), TestConfig.CSV_EXTENSION);
+            currentRun = new FlightDatasetWriter(Paths.get(ConfigManager.getAnalysisDirectory(), fileName));
+            Runtime.getRuntime().addShutdownHook(new Thread(currentRun::close, "flight-dataset-close"));
+        }
+        return currentRun;
+    }
+
+    /**
+     * Appends one flight card as a dataset row
+     * @param searchKey Search the card was found in
+     * @param card Flight card snapshot
+     */
+    public synchronized void append(SearchKey searchKey, FlightCard card) {
+        StringBuilder row = new StringBuilder(128)
+            .append(Instant.now()).append(',')
+            .append(escape(searchKey.toString())).append(',')
+            .append(escape(searchKey.getOrigin())).append(',')
+            .append(escape(searchKey.getDestination())).append(',')
+            .append(escape(searchKey.getDepartureDate())).append(',')
+            .append(nullToEmpty(card.getDepartureTime())).append(',')
+            .append(Double.isNaN(card.getPrice()) ? "" : String.valueOf(card.getPrice())).append(',')
+            .append(escape(card.getAirline())).append(',')
+            .append(card.getStops() == FlightCard.UNKNOWN ? "" : String.valueOf(card.getStops())).append(',')
+            .append(card.getDurationMinutes() == FlightCard.UNKNOWN ? "" : String.valueOf(card.getDurationMinutes()))
+            .append('\n');
+
+        try {
+            write(row.toString());
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to flight dataset: " + file, e);
+        }
+    }
+
+    /**
+     * Writes buffered rows to the file
+     */
+    public synchronized void flush() {
+        try {
+            drainBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush flight dataset: " + file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            drainBuffer();
+            channel.force(false);
+            channel.close();
+            logger.info("Flight dataset closed: {} ({} rows)", file, rowCount);
+        } catch (IOException e) {
+            logger.error("Failed to close flight dataset: {}", file, e);
+        }
+    }
+
+    private void write(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > buffer.remaining()) {
+            drainBuffer();
+        }
+        if (bytes.length > buffer.capacity()) {
+            channel.write(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
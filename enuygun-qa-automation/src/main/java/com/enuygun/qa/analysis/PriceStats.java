@@ -0,0 +1,63 @@
+package com.enuygun.qa.analysis;
+
+/**
+ * Price statistics of one group (airline, departure hour bucket or route)
+ */
+public class PriceStats {
+
+    private final String group;
+    private final int count;
+    private final double min;
+    private final double average;
+    private final double median;
+    private final double p90;
+    private final double pricePerMinute;
+
+    public PriceStats(String group, int count, double min, double average,
+                      double median, double p90, double pricePerMinute) {
+        this.group = group;
+        this.count = count;
+        this.min = min;
+        this.average = average;
+        this.median = median;
+        this.p90 = p90;
+        this.pricePerMinute = pricePerMinute;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    /**
+     * Average of price divided by flight duration, NaN if no row had a duration
+     */
+    public double getPricePerMinute() {
+        return pricePerMinute;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, min=%.2f, avg=%.2f, median=%.2f, p90=%.2f, pricePerMinute=%.2f",
+                             group, count, min, average, median, p90, pricePerMinute);
+    }
+}
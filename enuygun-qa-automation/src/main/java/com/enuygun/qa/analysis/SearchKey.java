@@ -0,0 +1,65 @@
+package com.enuygun.qa.analysis;
+
+import java.util.Objects;
+
+/**
+ * Identifies the flight search a result row belongs to
+ */
+public class SearchKey {
+
+    private final String origin;
+    private final String destination;
+    private final String departureDate;
+    private final String returnDate;
+
+    public SearchKey(String origin, String destination, String departureDate, String returnDate) {
+        this.origin = origin;
+        this.destination = destination;
+        this.departureDate = departureDate;
+        this.returnDate = returnDate;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public String getDepartureDate() {
+        return departureDate;
+    }
+
+    public String getReturnDate() {
+        return returnDate;
+    }
+
+    /**
+     * Route part of the key, e.g. "Istanbul-Ankara"
+     */
+    public String getRoute() {
+        return origin + "-" + destination;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchKey that = (SearchKey) o;
+        return Objects.equals(origin, that.origin) &&
+               Objects.equals(destination, that.destination) &&
+               Objects.equals(departureDate, that.departureDate) &&
+               Objects.equals(returnDate, that.returnDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(origin, destination, departureDate, returnDate);
+    }
+
+    @Override
+    public String toString() {
+        return getRoute() + "/" + departureDate + (returnDate != null ? "/" + returnDate : "");
+    }
+}
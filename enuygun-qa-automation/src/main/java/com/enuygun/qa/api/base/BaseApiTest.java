@@ -1,21 +1,44 @@
 package com.enuygun.qa.api.base;
 
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.config.LogConfig;
 import io.restassured.config.RestAssuredConfig;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import com.enuygun.qa.api.cassette.CassetteFilter;
+import com.enuygun.qa.api.concurrency.AdaptiveConcurrencyLimiter;
+import com.enuygun.qa.api.concurrency.ConcurrencyLimitFilter;
+import com.enuygun.qa.api.fixtures.CleanupLedger;
+import com.enuygun.qa.api.fixtures.PetFixtures;
+import com.enuygun.qa.api.stub.PetstoreStubServer;
+import com.enuygun.qa.api.utils.ApiLoggingFilter;
+import com.enuygun.qa.api.utils.ApiObjectMapper;
+import com.enuygun.qa.api.utils.Eventually;
 import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.models.petstore.Pet;
+import com.enuygun.qa.utils.ChartRenderingService;
 import com.enuygun.qa.utils.ReportUtils;
 
-import java.io.PrintStream;
-import java.io.ByteArrayOutputStream;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.*;
 import static org.hamcrest.Matchers.*;
@@ -26,8 +49,12 @@ import static org.hamcrest.Matchers.*;
  * 
  * Features:
  * - REST Assured configuration and setup
- * - Request/Response specifications with builders
- * - Comprehensive logging of all HTTP requests and responses
+ * - Shared, prebuilt request specifications (one per content type)
+ * - Switchable base URL (public Petstore or in-process stub)
+ * - Optional record/replay of HTTP traffic through cassettes (api.cassette.mode)
+ * - Low-overhead request/response logging, full detail only for failed tests
+ * - Per-test pet fixtures (@RequiresPet) provisioned in bulk
+ * - Background cleanup of created pets through the CleanupLedger
  * - Common validation methods
  * - ExtentReports integration
  * - Error handling and assertion helpers
@@ -61,11 +88,12 @@ public abstract class BaseApiTest {
     protected static final int STATUS_UNPROCESSABLE_ENTITY = 422;
     protected static final int STATUS_INTERNAL_SERVER_ERROR = 500;
     
-    // Logging streams for capturing request/response details
-    private static ByteArrayOutputStream requestLogStream;
-    private static ByteArrayOutputStream responseLogStream;
-    private static PrintStream requestPrintStream;
-    private static PrintStream responsePrintStream;
+    private static final String USER_AGENT = "Enuygun-QA-Automation/1.0.0";
+    
+    // Built once per content type and shared by all requests
+    private static final Map<String, RequestSpecification> requestSpecifications = new ConcurrentHashMap<>();
+    
+    private PetFixtures petFixtures;
     
     @BeforeClass(alwaysRun = true)
     public void setUpApiTestSuite() {
@@ -73,26 +101,19 @@ public abstract class BaseApiTest {
             logger.info("Setting up API test suite...");
             
             // Configure REST Assured base settings
-            RestAssured.baseURI = PETSTORE_BASE_URL;
+            RestAssured.baseURI = getPetstoreBaseUrl();
             RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
             
-            // Setup logging streams for detailed request/response logging
-            setupLoggingStreams();
-            
-            // Configure REST Assured with custom logging
+            // REST Assured logs full details only when one of its validations fails,
+            // and binds bodies with the shared mapper
             RestAssured.config = RestAssuredConfig.config()
                 .logConfig(LogConfig.logConfig()
                     .enableLoggingOfRequestAndResponseIfValidationFails()
-                    .enablePrettyPrinting(true));
-            
-            // Add global filters for comprehensive logging
-            RestAssured.filters(
-                new RequestLoggingFilter(requestPrintStream),
-                new ResponseLoggingFilter(responsePrintStream)
-            );
+                    .enablePrettyPrinting(true))
+                .objectMapperConfig(ApiObjectMapper.restAssuredConfig());
             
             logger.info("API test suite setup completed successfully");
-            logger.info("Base URL: {}", PETSTORE_BASE_URL);
+            logger.info("Base URL: {}", RestAssured.baseURI);
             
         } catch (Exception e) {
             logger.error("Failed to setup API test suite", e);
@@ -100,31 +121,125 @@ public abstract class BaseApiTest {
         }
     }
     
+    /**
+     * Starts provisioning the pets declared with @RequiresPet by this class's tests
+     * that the current &lt;test&gt; actually runs
+     */
+    @BeforeClass(alwaysRun = true, dependsOnMethods = "setUpApiTestSuite")
+    public void provisionFixtures(ITestContext context) {
+        Set<String> methodNames = Arrays.stream(context.getAllTestMethods())
+            .filter(method -> method.getInstance() == this)
+            .map(ITestNGMethod::getMethodName)
+            .collect(Collectors.toSet());
+        petFixtures = PetFixtures.forClass(getClass(), methodNames).provision();
+    }
+    
+    /**
+     * Releases this class's fixture client; its pets stay in the CleanupLedger until the suite ends
+     */
+    @AfterClass(alwaysRun = true)
+    public void tearDownFixtures() {
+        if (petFixtures != null) {
+            petFixtures.tearDown();
+        }
+    }
+    
+    /**
+     * Deletes all created pets once no test class can still be using them
+     */
+    @AfterSuite(alwaysRun = true)
+    public void awaitCleanup() {
+        CleanupLedger.pets().awaitDrained(ConfigManager.getIntProperty("cleanup.timeout", 60));
+        publishConcurrencyLimit();
+        logger.info(Eventually.describeConvergence());
+        // Latency SLA charts are rendered in the background
+        ChartRenderingService.shared().awaitCompletion(ConfigManager.getIntProperty("chart.render.timeout", 60));
+    }
+    
+    /**
+     * Reports where the adaptive concurrency limit settled and writes its time series
+     */
+    private static void publishConcurrencyLimit() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.shared();
+        if (limiter == null) {
+            return;
+        }
+        logger.info(limiter.describe());
+        ReportUtils.logInfo(limiter.describe());
+        String metricsFile = ConfigManager.getProperty("api.limiter.metrics.file", "reports/metrics/api-concurrency-limit.csv");
+        if (!metricsFile.isEmpty()) {
+            limiter.writeMetrics(Paths.get(metricsFile));
+        }
+    }
+    
+    /**
+     * @return The first pet the running test declared with @RequiresPet
+     */
+    protected Pet fixturePet() {
+        return fixturePets().get(0);
+    }
+    
+    /**
+     * @return All pets the running test declared with @RequiresPet
+     */
+    protected List<Pet> fixturePets() {
+        return petFixtures.petsFor(Reporter.getCurrentTestResult().getMethod().getMethodName());
+    }
+    
+    /**
+     * Deletes the pet in the background at the end of the suite, for pets not created through the API clients
+     * @param petId ID of the pet to delete
+     */
+    protected void registerForCleanup(long petId) {
+        petFixtures.registerForCleanup(petId);
+    }
+    
+    /**
+     * Petstore base URL: the in-process stub when petstore.stub.enabled is true,
+     * otherwise petstore.base.url (default: the public Swagger Petstore)
+     * @return Base URL for REST Assured
+     */
+    public static String getPetstoreBaseUrl() {
+        if (ConfigManager.getBooleanProperty("petstore.stub.enabled", false)) {
+            return PetstoreStubServer.shared().getBaseUrl();
+        }
+        return ConfigManager.getProperty("petstore.base.url", PETSTORE_BASE_URL);
+    }
+    
     @BeforeMethod(alwaysRun = true)
-    public void setUpApiTest() {
+    public void setUpApiTest(ITestContext context) {
         logger.info("Setting up individual API test...");
         
-        // Clear logging streams for each test
-        if (requestLogStream != null) {
-            requestLogStream.reset();
-        }
-        if (responseLogStream != null) {
-            responseLogStream.reset();
-        }
+        // Resolve this test's environment parameters for the current thread
+        Map<String, String> parameters = context.getCurrentXmlTest().getAllParameters();
+        ConfigManager.useEnvironment(parameters.get("environment"), parameters);
+        
+        // Start each test with an empty exchange history
+        ApiLoggingFilter.clear();
         
         logger.debug("API test setup completed");
     }
     
+    /**
+     * Logs the full detail of the test's last API exchanges if it failed
+     * @param result Result of the finished test method
+     */
+    @AfterMethod(alwaysRun = true)
+    public void logApiExchangesOnFailure(ITestResult result) {
+        if (result.getStatus() == ITestResult.FAILURE) {
+            String exchanges = ApiLoggingFilter.describeRecentExchanges();
+            logger.error("API exchanges of failed test {}:\n{}", result.getName(), exchanges);
+            ReportUtils.logInfo("Recent API exchanges:\n" + exchanges);
+        }
+        ApiLoggingFilter.clear();
+    }
+    
     /**
      * Creates a pre-configured RequestSpecification with common settings
      * @return RequestSpecification with default configuration
      */
     protected RequestSpecification getRequestSpecification() {
-        return given()
-            .contentType(JSON_CONTENT_TYPE)
-            .accept(JSON_CONTENT_TYPE)
-            .header("User-Agent", "Enuygun-QA-Automation/1.0.0")
-            .log().all(); // Log all request details
+        return getRequestSpecification(JSON_CONTENT_TYPE);
     }
     
     /**
@@ -133,11 +248,33 @@ public abstract class BaseApiTest {
      * @return RequestSpecification with specified content type
      */
     protected RequestSpecification getRequestSpecification(String contentType) {
-        return given()
-            .contentType(contentType)
-            .accept(contentType)
-            .header("User-Agent", "Enuygun-QA-Automation/1.0.0")
-            .log().all();
+        return given().spec(requestSpecifications.computeIfAbsent(contentType, BaseApiTest::buildRequestSpecification));
+    }
+    
+    /**
+     * Builds the shared specification for a content type, including the logging filter,
+     * the cassette filter when api.cassette.mode is record or replay, and last the
+     * adaptive concurrency limit unless api.limiter.enabled is false
+     * @param contentType Content-Type and Accept header value
+     * @return Immutable specification to merge into new requests
+     */
+    private static RequestSpecification buildRequestSpecification(String contentType) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+            .setContentType(contentType)
+            .setAccept(contentType)
+            .addHeader("User-Agent", USER_AGENT)
+            .addFilter(ApiLoggingFilter.getInstance());
+        
+        CassetteFilter cassette = CassetteFilter.shared();
+        if (cassette != null) {
+            builder.addFilter(cassette);
+        }
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.shared();
+        if (limiter != null) {
+            builder.addFilter(new ConcurrencyLimitFilter(limiter,
+                ConfigManager.getIntProperty("api.limiter.acquire.timeout", 60) * 1000L));
+        }
+        return builder.build();
     }
     
     /**
@@ -149,7 +286,7 @@ public abstract class BaseApiTest {
             .statusCode(anyOf(equalTo(200), equalTo(201), equalTo(202)))
             .contentType(JSON_CONTENT_TYPE)
             .time(lessThan((long) DEFAULT_RESPONSE_TIME_LIMIT))
-            .log().all(); // Log all response details
+            .log().ifValidationFails(); // Full response details only on failure
     }
     
     /**
@@ -161,7 +298,7 @@ public abstract class BaseApiTest {
         return expect()
             .statusCode(expectedStatusCode)
             .time(lessThan((long) DEFAULT_RESPONSE_TIME_LIMIT))
-            .log().all();
+            .log().ifValidationFails();
     }
     
     /**
@@ -174,7 +311,7 @@ public abstract class BaseApiTest {
             .statusCode(expectedStatusCode)
             .contentType(anyOf(containsString(JSON_CONTENT_TYPE), containsString(XML_CONTENT_TYPE)))
             .time(lessThan((long) DEFAULT_RESPONSE_TIME_LIMIT))
-            .log().all();
+            .log().ifValidationFails();
     }
     
     /**
@@ -231,14 +368,11 @@ public abstract class BaseApiTest {
      */
     protected void logApiRequest(String method, String endpoint, Object requestBody) {
         logger.info("API Request: {} {}", method, endpoint);
-        if (requestBody != null) {
-            logger.info("Request Body: {}", requestBody);
+        if (requestBody != null && logger.isDebugEnabled()) {
+            logger.debug("Request Body: {}", ApiLoggingFilter.abbreviate(requestBody.toString()));
         }
         
         ReportUtils.logInfo(String.format("API Call: %s %s", method, endpoint));
-        if (requestBody != null) {
-            ReportUtils.logInfo("Request Body: " + requestBody.toString());
-        }
     }
     
     /**
@@ -249,14 +383,20 @@ public abstract class BaseApiTest {
      */
     protected void logApiResponse(int statusCode, long responseTime, String responseBody) {
         logger.info("API Response: Status {} | Time {}ms", statusCode, responseTime);
-        if (responseBody != null && !responseBody.isEmpty()) {
-            logger.info("Response Body: {}", responseBody);
+        if (responseBody != null && !responseBody.isEmpty() && logger.isDebugEnabled()) {
+            logger.debug("Response Body: {}", ApiLoggingFilter.abbreviate(responseBody));
         }
         
         ReportUtils.logInfo(String.format("Response: Status %d | Time %dms", statusCode, responseTime));
-        if (responseBody != null && !responseBody.isEmpty()) {
-            ReportUtils.logInfo("Response Body: " + responseBody);
-        }
+    }
+    
+    /**
+     * Logs API response details; the body is only rendered when DEBUG logging is enabled
+     * @param response Response to log
+     */
+    protected void logApiResponse(Response response) {
+        logApiResponse(response.getStatusCode(), response.getTime(),
+            logger.isDebugEnabled() ? response.asString() : null);
     }
     
     /**
@@ -276,33 +416,13 @@ public abstract class BaseApiTest {
         }
     }
     
-    /**
-     * Setup logging streams for capturing detailed request/response logs
-     */
-    private void setupLoggingStreams() {
-        try {
-            requestLogStream = new ByteArrayOutputStream();
-            responseLogStream = new ByteArrayOutputStream();
-            
-            requestPrintStream = new PrintStream(requestLogStream, true, "UTF-8");
-            responsePrintStream = new PrintStream(responseLogStream, true, "UTF-8");
-            
-            logger.debug("Logging streams setup completed");
-        } catch (Exception e) {
-            logger.warn("Failed to setup logging streams: {}", e.getMessage());
-            // Continue without detailed logging streams
-        }
-    }
-    
     /**
      * Get captured request log for current test
      * @return Request log as string
      */
     protected String getCapturedRequestLog() {
-        if (requestLogStream != null) {
-            return requestLogStream.toString();
-        }
-        return "Request log not available";
+        String request = ApiLoggingFilter.describeLastRequest();
+        return request != null ? request : "Request log not available";
     }
     
     /**
@@ -310,10 +430,8 @@ public abstract class BaseApiTest {
      * @return Response log as string
      */
     protected String getCapturedResponseLog() {
-        if (responseLogStream != null) {
-            return responseLogStream.toString();
-        }
-        return "Response log not available";
+        String response = ApiLoggingFilter.describeLastResponse();
+        return response != null ? response : "Response log not available";
     }
     
     /**
@@ -0,0 +1,203 @@
+package com.enuygun.qa.api.cassette;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * REST Assured filter recording HTTP traffic to, or replaying it from, an {@link HttpCassette}
+ *
+ * Requests are keyed by method, path, sorted query parameters and the JSON body with sorted
+ * fields, so the host (public Petstore, stub, proxy) and field order do not matter. The same
+ * request sent repeatedly is keyed by occurrence, so a GET after a DELETE replays the 404.
+ *
+ * Features:
+ * - Modes: off, record, replay (api.cassette.mode)
+ * - Cassette location from api.cassette.dir and api.cassette.name
+ * - Replay misses fail the request, or go to the network with api.cassette.passthrough=true
+ */
+public class CassetteFilter implements Filter {
+    private static final Logger logger = LoggerFactory.getLogger(CassetteFilter.class);
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static volatile CassetteFilter shared;
+    private static volatile boolean sharedResolved;
+
+    private final HttpCassette cassette;
+    private final Mode mode;
+    private final boolean passthrough;
+    private final Map<String, AtomicInteger> occurrences = new ConcurrentHashMap<>();
+    private final ObjectMapper canonicalMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    public CassetteFilter(HttpCassette cassette, boolean passthrough) {
+        this.cassette = cassette;
+        this.mode = cassette.isRecording() ? Mode.RECORD : Mode.REPLAY;
+        this.passthrough = passthrough;
+    }
+
+    /**
+     * Filter configured from api.cassette.* properties, shared by all API tests
+     * @return The filter, or null when api.cassette.mode is off
+     */
+    public static CassetteFilter shared() {
+        if (!sharedResolved) {
+            synchronized (CassetteFilter.class) {
+                if (!sharedResolved) {
+                    shared = createFromConfig();
+                    sharedResolved = true;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static CassetteFilter createFromConfig() {
+        Mode mode = Mode.valueOf(ConfigManager.getProperty("api.cassette.mode", "off").trim().toUpperCase());
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        Path directory = Paths.get(ConfigManager.getProperty("api.cassette.dir", "test-data/cassettes"));
+        String name = ConfigManager.getProperty("api.cassette.name", "petstore");
+
+        HttpCassette cassette = mode == Mode.RECORD
+                ? HttpCassette.record(directory, name)
+                : HttpCassette.replay(directory, name);
+        if (mode == Mode.RECORD) {
+            // The index is written when the recording is closed
+            Runtime.getRuntime().addShutdownHook(new Thread(cassette::close, "cassette-shutdown"));
+        }
+        return new CassetteFilter(cassette, ConfigManager.getBooleanProperty("api.cassette.passthrough", false));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        String requestKey = requestKey(requestSpec);
+        int occurrence = occurrences.computeIfAbsent(requestKey, key -> new AtomicInteger()).getAndIncrement();
+
+        if (mode == Mode.RECORD) {
+            Response response = context.next(requestSpec, responseSpec);
+            cassette.write(requestKey + "#" + occurrence, toInteraction(response));
+            return response;
+        }
+
+        HttpCassette.Interaction interaction = findRecorded(requestKey, occurrence);
+        if (interaction != null) {
+            logger.debug("Replaying {} (occurrence {})", requestKey, occurrence);
+            return toResponse(interaction);
+        }
+        if (passthrough) {
+            logger.warn("No recorded interaction, sending to the network: {}", requestKey);
+            return context.next(requestSpec, responseSpec);
+        }
+        throw new RuntimeException("No recorded interaction for request: " + requestKey);
+    }
+
+    public HttpCassette getCassette() {
+        return cassette;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * The exact occurrence, otherwise the latest earlier one (a request repeated more often than when recorded)
+     */
+    private HttpCassette.Interaction findRecorded(String requestKey, int occurrence) {
+        for (int candidate = occurrence; candidate >= 0; candidate--) {
+            HttpCassette.Interaction interaction = cassette.find(requestKey + "#" + candidate);
+            if (interaction != null) {
+                return interaction;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Host-independent key: METHOD path?sorted-query followed by the canonical body
+     */
+    String requestKey(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null && !uri.getRawQuery().isEmpty()) {
+            String[] parameters = uri.getRawQuery().split("&");
+            Arrays.sort(parameters);
+            key.append('?').append(String.join("&", parameters));
+        }
+        String body = bodyAsString(requestSpec.getBody());
+        if (body != null && !body.isEmpty()) {
+            key.append('\n').append(canonicalJson(body));
+        }
+        return key.toString();
+    }
+
+    private String canonicalJson(String body) {
+        try {
+            Object value = canonicalMapper.readValue(body, Object.class);
+            return canonicalMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            // Not JSON (form data, malformed payloads of negative tests) - key on the raw body
+            return body;
+        }
+    }
+
+    private static String bodyAsString(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+
+    private static HttpCassette.Interaction toInteraction(Response response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.put(header.getName(), header.getValue());
+        }
+        return new HttpCassette.Interaction(response.getStatusCode(), headers, response.asByteArray());
+    }
+
+    private static Response toResponse(HttpCassette.Interaction interaction) {
+        List<Header> headers = new ArrayList<>();
+        interaction.getHeaders().forEach((name, value) -> headers.add(new Header(name, value)));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.getStatusCode())
+                .setStatusLine("HTTP/1.1 " + interaction.getStatusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(interaction.getBody());
+        interaction.getHeaders().entrySet().stream()
+                .filter(header -> header.getKey().equalsIgnoreCase("Content-Type"))
+                .findFirst()
+                .ifPresent(header -> builder.setContentType(header.getValue()));
+        return builder.build();
+    }
+}
@@ -0,0 +1,286 @@
+package com.enuygun.qa.api.cassette;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cassette file pair holding recorded HTTP interactions
+ *
+ * <name>.data is an append-only log of length-prefixed records (key, status, headers, body).
+ * <name>.idx holds fixed-size (key hash, record offset) entries sorted by hash, written on close.
+ * Replay maps both files read-only, so a lookup is a binary search over the index plus one
+ * record read, without loading the cassette into the heap.
+ *
+ * Features:
+ * - Record mode: thread-safe appends, index built when the cassette is closed
+ * - Replay mode: memory-mapped index and data, safe for concurrent lookups
+ * - Hash collisions resolved by comparing the full key of the record
+ * - Sequential access to every interaction, e.g. as offline payloads for load tests
+ */
+public class HttpCassette implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(HttpCassette.class);
+    private static final int MAGIC = 0x43415353; // "CASS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int INDEX_HEADER_BYTES = 12;
+    private static final int INDEX_ENTRY_BYTES = 16;
+
+    private final Path dataFile;
+    private final Path indexFile;
+
+    // Record mode
+    private DataOutputStream writer;
+    private final List<long[]> pendingIndex = new ArrayList<>();
+
+    // Replay mode
+    private MappedByteBuffer index;
+    private MappedByteBuffer data;
+    private int entryCount;
+
+    private HttpCassette(Path directory, String name) {
+        this.dataFile = directory.resolve(name + ".data");
+        this.indexFile = directory.resolve(name + ".idx");
+    }
+
+    /**
+     * Opens a new, empty cassette for recording, replacing an existing one with the same name
+     */
+    public static HttpCassette record(Path directory, String name) {
+        HttpCassette cassette = new HttpCassette(directory, name);
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(cassette.indexFile);
+            cassette.writer = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cassette.dataFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open cassette for recording: " + cassette.dataFile, e);
+        }
+        logger.info("Recording HTTP interactions to {}", cassette.dataFile);
+        return cassette;
+    }
+
+    /**
+     * Maps an existing cassette for replay
+     */
+    public static HttpCassette replay(Path directory, String name) {
+        HttpCassette cassette = new HttpCassette(directory, name);
+        try (FileChannel indexChannel = FileChannel.open(cassette.indexFile, StandardOpenOption.READ);
+             FileChannel dataChannel = FileChannel.open(cassette.dataFile, StandardOpenOption.READ)) {
+            // Mappings stay valid after the channels are closed
+            cassette.index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            cassette.data = dataChannel.map(FileChannel.MapMode.READ_ONLY, 0, dataChannel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open cassette for replay: " + cassette.indexFile, e);
+        }
+
+        if (cassette.index.getInt(0) != MAGIC || cassette.index.getInt(4) != FORMAT_VERSION) {
+            throw new RuntimeException("Unsupported cassette index format: " + cassette.indexFile);
+        }
+        cassette.entryCount = cassette.index.getInt(8);
+        logger.info("Replaying {} HTTP interactions from {}", cassette.entryCount, cassette.dataFile);
+        return cassette;
+    }
+
+    public boolean isRecording() {
+        return writer != null;
+    }
+
+    /**
+     * Appends an interaction to a recording cassette
+     */
+    public synchronized void write(String key, Interaction interaction) {
+        if (writer == null) {
+            throw new IllegalStateException("Cassette is not recording: " + dataFile);
+        }
+        try {
+            long offset = writer.size();
+            writeBytes(key.getBytes(StandardCharsets.UTF_8));
+            writer.writeInt(interaction.statusCode);
+            writer.writeInt(interaction.headers.size());
+            for (Map.Entry<String, String> header : interaction.headers.entrySet()) {
+                writeBytes(header.getKey().getBytes(StandardCharsets.UTF_8));
+                writeBytes(header.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            writeBytes(interaction.body);
+            pendingIndex.add(new long[] {hash(key), offset});
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to record HTTP interaction: " + key, e);
+        }
+    }
+
+    /**
+     * @return Recorded interaction for the key, or null if the cassette has none
+     */
+    public Interaction find(String key) {
+        if (index == null) {
+            throw new IllegalStateException("Cassette is not open for replay: " + indexFile);
+        }
+        long hash = hash(key);
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleHash = hashAt(middle);
+            if (middleHash < hash) {
+                low = middle + 1;
+            } else if (middleHash > hash) {
+                high = middle - 1;
+            } else {
+                // Walk back to the first entry with this hash, then compare full keys
+                int entry = middle;
+                while (entry > 0 && hashAt(entry - 1) == hash) {
+                    entry--;
+                }
+                for (; entry < entryCount && hashAt(entry) == hash; entry++) {
+                    ByteBuffer record = recordAt(index.getLong(INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES + 8));
+                    if (key.equals(readString(record))) {
+                        return readInteraction(record);
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Every recorded interaction keyed by its request key, in recording order
+     */
+    public Map<String, Interaction> interactions() {
+        if (data == null) {
+            throw new IllegalStateException("Cassette is not open for replay: " + dataFile);
+        }
+        Map<String, Interaction> interactions = new LinkedHashMap<>();
+        ByteBuffer record = data.duplicate();
+        while (record.hasRemaining()) {
+            String key = readString(record);
+            interactions.put(key, readInteraction(record));
+        }
+        return interactions;
+    }
+
+    public int size() {
+        return isRecording() ? pendingIndex.size() : entryCount;
+    }
+
+    /**
+     * Finishes a recording by writing the sorted index; no-op for replay cassettes
+     */
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            writer = null;
+
+            pendingIndex.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+            ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_BYTES + pendingIndex.size() * INDEX_ENTRY_BYTES);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(pendingIndex.size());
+            for (long[] entry : pendingIndex) {
+                buffer.putLong(entry[0]).putLong(entry[1]);
+            }
+            buffer.flip();
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            logger.info("Recorded {} HTTP interactions to {}", pendingIndex.size(), dataFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write cassette index: " + indexFile, e);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        writer.writeInt(bytes.length);
+        writer.write(bytes);
+    }
+
+    private long hashAt(int entry) {
+        return index.getLong(INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES);
+    }
+
+    private ByteBuffer recordAt(long offset) {
+        ByteBuffer record = data.duplicate();
+        record.position((int) offset);
+        return record;
+    }
+
+    private static Interaction readInteraction(ByteBuffer record) {
+        int statusCode = record.getInt();
+        int headerCount = record.getInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(record), readString(record));
+        }
+        return new Interaction(statusCode, headers, readBytes(record));
+    }
+
+    private static String readString(ByteBuffer record) {
+        return new String(readBytes(record), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 key
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * One recorded response
+     */
+    public static final class Interaction {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        public Interaction(int statusCode, Map<String, String> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
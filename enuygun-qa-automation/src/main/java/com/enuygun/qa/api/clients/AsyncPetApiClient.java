@@ -0,0 +1,296 @@
+package com.enuygun.qa.api.clients;
+
+import com.enuygun.qa.api.base.BaseApiTest;
+import com.enuygun.qa.api.concurrency.AdaptiveConcurrencyLimiter;
+import com.enuygun.qa.api.concurrency.ConcurrencyLimitFilter;
+import com.enuygun.qa.api.fixtures.CleanupLedger;
+import com.enuygun.qa.api.utils.ApiObjectMapper;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.models.petstore.Pet;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Non-blocking Pet API client for seeding and cleaning up test data in bulk
+ *
+ * Built on java.net.http.HttpClient, which keeps a pool of persistent connections.
+ * Single calls return CompletableFutures; bulk calls pipeline their requests through a
+ * fixed number of lanes, so at most maxConcurrency requests are in flight and no thread
+ * waits for a permit.
+ *
+ * Features:
+ * - createPetAsync, getPetAsync, updatePetAsync, deletePetAsync
+ * - Bulk createPets, getPets and deletePets with bounded concurrency, results in input order
+ * - HTTP error statuses are returned like PetApiClient does, only transport failures fail the future
+ * - Created pets are recorded in the CleanupLedger, deleted pets removed from it
+ * - Base URL and concurrency from the same configuration as BaseApiTest (petstore.async.*)
+ * - Requests share the adaptive concurrency limit of the REST Assured tests, so bulk seeding backs off under throttling
+ *
+ * Requests bypass REST Assured, so they are not logged per call and not recorded in cassettes.
+ */
+public class AsyncPetApiClient implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncPetApiClient.class);
+    private static final String PET_ENDPOINT = "/pet";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final String baseUrl;
+    private final int maxConcurrency;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = ApiObjectMapper.shared();
+    private final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.shared();
+
+    /**
+     * @param baseUrl Petstore base URL, e.g. https://petstore.swagger.io/v2
+     * @param maxConcurrency Maximum requests in flight per bulk operation
+     * @param requestTimeout Timeout of a single request
+     */
+    public AsyncPetApiClient(String baseUrl, int maxConcurrency, Duration requestTimeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.requestTimeout = requestTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "pet-api-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Client for the Petstore the API tests use, configured from petstore.async.* properties
+     */
+    public static AsyncPetApiClient create() {
+        return new AsyncPetApiClient(BaseApiTest.getPetstoreBaseUrl(),
+                ConfigManager.getIntProperty("petstore.async.concurrency", 32),
+                Duration.ofSeconds(ConfigManager.getIntProperty("petstore.async.timeout", 30)));
+    }
+
+    public CompletableFuture<HttpResponse<String>> createPetAsync(Pet pet) {
+        return send(jsonRequest(PET_ENDPOINT).POST(HttpRequest.BodyPublishers.ofByteArray(toJson(pet))).build())
+                .whenComplete((response, error) -> {
+                    if (response != null && response.statusCode() == 200 && pet.getId() != null) {
+                        CleanupLedger.pets().record(pet.getId());
+                    }
+                });
+    }
+
+    public CompletableFuture<HttpResponse<String>> updatePetAsync(Pet pet) {
+        return send(jsonRequest(PET_ENDPOINT).PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(pet))).build());
+    }
+
+    public CompletableFuture<HttpResponse<String>> getPetAsync(long petId) {
+        return send(jsonRequest(PET_ENDPOINT + "/" + petId).GET().build());
+    }
+
+    public CompletableFuture<HttpResponse<String>> deletePetAsync(long petId) {
+        return send(jsonRequest(PET_ENDPOINT + "/" + petId).DELETE().build())
+                .whenComplete((response, error) -> {
+                    if (response != null && (response.statusCode() == 200 || response.statusCode() == 404)) {
+                        CleanupLedger.pets().forget(petId);
+                    }
+                });
+    }
+
+    /**
+     * Creates all pets with at most maxConcurrency requests in flight
+     * @return Responses in the order of the given pets
+     */
+    public CompletableFuture<List<HttpResponse<String>>> createPets(List<Pet> pets) {
+        return pipeline("create", pets, this::createPetAsync);
+    }
+
+    /**
+     * Retrieves all pets with at most maxConcurrency requests in flight
+     * @return Responses in the order of the given IDs
+     */
+    public CompletableFuture<List<HttpResponse<String>>> getPets(Collection<Long> petIds) {
+        return pipeline("get", new ArrayList<>(petIds), this::getPetAsync);
+    }
+
+    /**
+     * Deletes all pets with at most maxConcurrency requests in flight
+     * @return Responses in the order of the given IDs
+     */
+    public CompletableFuture<List<HttpResponse<String>>> deletePets(Collection<Long> petIds) {
+        return pipeline("delete", new ArrayList<>(petIds), this::deletePetAsync);
+    }
+
+    /**
+     * Deletes all pets like {@link #deletePets(Collection)}, but never fails: a transport
+     * failure is reported for its pet as status -1, so callers can retry just those pets
+     * @return HTTP status per pet ID, in the order of the given IDs
+     */
+    public CompletableFuture<Map<Long, Integer>> deletePetsSettled(Collection<Long> petIds) {
+        List<Long> ids = new ArrayList<>(petIds);
+        return pipeline("delete", ids, petId -> deletePetAsync(petId).handle((response, error) -> response))
+                .thenApply(responses -> {
+                    Map<Long, Integer> statuses = new LinkedHashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        HttpResponse<String> response = responses.get(i);
+                        statuses.put(ids.get(i), response != null ? response.statusCode() : -1);
+                    }
+                    return statuses;
+                });
+    }
+
+    /**
+     * Parses a pet response body
+     */
+    public Pet toPet(HttpResponse<String> response) {
+        try {
+            return objectMapper.readValue(response.body(), Pet.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse pet response: " + response.body(), e);
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs call for every item on up to maxConcurrency lanes; each lane starts its next item when
+     * the previous one completes. The result fails after all items ran if any item failed.
+     */
+    private <T> CompletableFuture<List<HttpResponse<String>>> pipeline(
+            String operation, List<T> items, Function<T, CompletableFuture<HttpResponse<String>>> call) {
+        CompletableFuture<List<HttpResponse<String>>> result = new CompletableFuture<>();
+        if (items.isEmpty()) {
+            result.complete(new ArrayList<>());
+            return result;
+        }
+
+        long startTime = System.nanoTime();
+        List<HttpResponse<String>> responses = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            responses.add(null);
+        }
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        Runnable[] lane = new Runnable[1];
+        lane[0] = () -> {
+            int index = nextIndex.getAndIncrement();
+            if (index >= items.size()) {
+                return;
+            }
+            CompletableFuture<HttpResponse<String>> future;
+            try {
+                future = call.apply(items.get(index));
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            // Continue on the pool so synchronously completed futures cannot nest lanes on the stack
+            future.whenCompleteAsync((response, error) -> {
+                if (error != null) {
+                    firstFailure.compareAndSet(null, error);
+                } else {
+                    synchronized (responses) {
+                        responses.set(index, response);
+                    }
+                }
+                if (completed.incrementAndGet() == items.size()) {
+                    finish(operation, items.size(), startTime, responses, firstFailure.get(), result);
+                } else {
+                    lane[0].run();
+                }
+            }, executor);
+        };
+
+        int lanes = Math.min(maxConcurrency, items.size());
+        for (int i = 0; i < lanes; i++) {
+            lane[0].run();
+        }
+        return result;
+    }
+
+    private void finish(String operation, int count, long startTime, List<HttpResponse<String>> responses,
+                        Throwable failure, CompletableFuture<List<HttpResponse<String>>> result) {
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        if (failure != null) {
+            logger.error("Bulk {} of {} pets failed after {}ms", operation, count, elapsedMillis, failure);
+            result.completeExceptionally(new RuntimeException("Failed to " + operation + " pets in bulk", failure));
+            return;
+        }
+        logger.info("Bulk {} of {} pets completed in {}ms ({} in flight)", operation, count, elapsedMillis,
+                    Math.min(maxConcurrency, count));
+        synchronized (responses) {
+            result.complete(new ArrayList<>(responses));
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        logger.debug("Async API Request: {} {}", request.method(), request.uri());
+        if (limiter == null) {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        }
+        return limiter.acquire().thenCompose(permit -> {
+            CompletableFuture<HttpResponse<String>> sent;
+            try {
+                sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            } catch (RuntimeException e) {
+                permit.ignore();
+                throw e;
+            }
+            return sent.whenComplete((response, error) -> {
+                if (error != null || ConcurrencyLimitFilter.isThrottled(response.statusCode())) {
+                    permit.dropped();
+                } else {
+                    permit.success();
+                }
+            });
+        });
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", JSON_CONTENT_TYPE)
+                .header("Accept", JSON_CONTENT_TYPE)
+                .header("User-Agent", "Enuygun-QA-Automation/1.0.0");
+    }
+
+    /**
+     * Serializes straight to UTF-8 bytes, without an intermediate String
+     */
+    private byte[] toJson(Pet pet) {
+        try {
+            return objectMapper.writeValueAsBytes(pet);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize pet: " + pet.getName(), e);
+        }
+    }
+}
@@ -5,8 +5,10 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.enuygun.qa.api.base.BaseApiTest;
+import com.enuygun.qa.api.fixtures.CleanupLedger;
 import com.enuygun.qa.models.petstore.Pet;
 import com.enuygun.qa.api.utils.ApiUtils;
+import com.enuygun.qa.api.utils.ParsedResponse;
 import com.enuygun.qa.utils.ReportUtils;
 
 import java.util.List;
@@ -21,6 +23,7 @@ import static io.restassured.RestAssured.*;
  * - CRUD operations (Create, Read, Update, Delete)
  * - Comprehensive logging of requests and responses
  * - Built-in error handling and validation
+ * - Created pets are recorded in the CleanupLedger and deleted after the suite
  * - Support for both positive and negative test scenarios
  * - Fluent API design for easy test writing
  */
@@ -57,8 +60,9 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Create Pet");
+            recordCreatedPet(response, pet.getId());
             
             return response;
             
@@ -89,7 +93,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Get Pet by ID: " + petId);
             
             return response;
@@ -121,7 +125,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Update Pet: " + pet.getId());
             
             return response;
@@ -153,8 +157,11 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Delete Pet: " + petId);
+            if (response.getStatusCode() == STATUS_OK) {
+                CleanupLedger.pets().forget(petId);
+            }
             
             return response;
             
@@ -185,8 +192,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), 
-                "Array of " + response.jsonPath().getList("$").size() + " pets");
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Find Pets by Status: " + status);
             
             return response;
@@ -222,8 +228,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), 
-                "Array of " + response.jsonPath().getList("$").size() + " pets");
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Find Pets by Multiple Statuses: " + statusParam);
             
             return response;
@@ -259,8 +264,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), 
-                "Array of " + response.jsonPath().getList("$").size() + " pets");
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Find Pets by Tags: " + tagsParam);
             
             return response;
@@ -292,8 +296,9 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Create Pet with Invalid Data");
+            recordCreatedPet(response, null);
             
             return response;
             
@@ -324,7 +329,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Get Non-Existent Pet: " + nonExistentPetId);
             
             return response;
@@ -356,7 +361,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Update Pet with Invalid Data");
             
             return response;
@@ -388,7 +393,7 @@ public class PetApiClient extends BaseApiTest {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             ApiUtils.logDetailedResponse(response, "Delete Non-Existent Pet: " + nonExistentPetId);
             
             return response;
@@ -425,7 +430,7 @@ public class PetApiClient extends BaseApiTest {
         }
         
         // Validate pet data matches expected
-        String actualName = response.jsonPath().getString("name");
+        String actualName = ParsedResponse.of(response).getString("name");
         if (!expectedPet.getName().equals(actualName)) {
             ReportUtils.logFail(String.format("Pet name mismatch: expected '%s', got '%s'", 
                 expectedPet.getName(), actualName));
@@ -456,8 +461,8 @@ public class PetApiClient extends BaseApiTest {
         }
         
         // Validate pet ID matches
-        Long actualId = response.jsonPath().getLong("id");
-        if (expectedPetId != actualId) {
+        Long actualId = ParsedResponse.of(response).getLong("id");
+        if (actualId == null || expectedPetId != actualId) {
             ReportUtils.logFail(String.format("Pet ID mismatch: expected %d, got %d", expectedPetId, actualId));
             return false;
         }
@@ -465,4 +470,21 @@ public class PetApiClient extends BaseApiTest {
         ReportUtils.logPass("Pet retrieval validation completed successfully");
         return true;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Records a pet the API accepted in the cleanup ledger
+     * @param response Create response
+     * @param requestedId ID sent in the request, null to read it from the response
+     */
+    private void recordCreatedPet(Response response, Long requestedId) {
+        if (response.getStatusCode() != STATUS_OK && response.getStatusCode() != STATUS_CREATED) {
+            return;
+        }
+        Long petId = requestedId != null ? requestedId : ParsedResponse.of(response).getLong("id");
+        if (petId == null) {
+            logger.warn("Created pet has no readable ID, it will not be cleaned up");
+            return;
+        }
+        CleanupLedger.pets().record(petId);
+    }
+}
@@ -0,0 +1,314 @@
+package com.enuygun.qa.api.concurrency;
+
+import com.enuygun.qa.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Adaptive limit on the API requests in flight against one backend
+ *
+ * Additive increase, multiplicative decrease: every request that completes without
+ * congestion while the limit is in use raises the limit by 1/limit (about +1 per round of
+ * requests). A throttled request (429, 503, transport failure) or a short-term RTT well above
+ * the long-term RTT cuts it by api.limiter.backoff, at most once per RTT.
+ *
+ * Features:
+ * - Limit between api.limiter.min and api.limiter.max, starting at api.limiter.initial
+ * - Latency gradient: congestion when the short-term RTT average exceeds the long-term one
+ *   x api.limiter.rtt.tolerance and + api.limiter.rtt.slack.ms, so JIT warm-up and GC noise
+ *   in the test JVM do not read as backend overload
+ * - Blocking and non-blocking permit acquisition, FIFO among waiters
+ * - Limit published as a gauge: getLimit(), a summary at suite end and a CSV time series
+ *   (api.limiter.metrics.file)
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final int MAX_SERIES_POINTS = 10_000;
+    private static final double SHORT_RTT_SMOOTHING = 0.2;
+    private static final double LONG_RTT_SMOOTHING = 0.01;
+
+    private static volatile AdaptiveConcurrencyLimiter shared;
+    private static volatile boolean sharedResolved;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final long rttSlackNanos;
+    private final long createdNanos = System.nanoTime();
+
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private final List<long[]> series = new ArrayList<>();
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long lastDecreaseNanos;
+    private long samples;
+    private long throttled;
+    private int lowestLimit;
+    private int highestLimit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double rttTolerance, long rttSlackMillis) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.rttSlackNanos = TimeUnit.MILLISECONDS.toNanos(rttSlackMillis);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.lowestLimit = (int) limit;
+        this.highestLimit = (int) limit;
+        recordPoint();
+    }
+
+    /**
+     * Limiter for the Petstore backend, shared by REST Assured and the async client
+     * @return The limiter, or null when api.limiter.enabled is false
+     */
+    public static AdaptiveConcurrencyLimiter shared() {
+        if (!sharedResolved) {
+            synchronized (AdaptiveConcurrencyLimiter.class) {
+                if (!sharedResolved) {
+                    shared = createFromConfig();
+                    sharedResolved = true;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static AdaptiveConcurrencyLimiter createFromConfig() {
+        if (!ConfigManager.getBooleanProperty("api.limiter.enabled", true)) {
+            logger.info("Adaptive API concurrency limit disabled");
+            return null;
+        }
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("petstore",
+                ConfigManager.getIntProperty("api.limiter.initial", 16),
+                ConfigManager.getIntProperty("api.limiter.min", 1),
+                ConfigManager.getIntProperty("api.limiter.max", 64),
+                Double.parseDouble(ConfigManager.getProperty("api.limiter.backoff", "0.9")),
+                Double.parseDouble(ConfigManager.getProperty("api.limiter.rtt.tolerance", "2.0")),
+                ConfigManager.getIntProperty("api.limiter.rtt.slack.ms", 10));
+        logger.info("Adaptive API concurrency limit for {}: initial {}, range {}-{}", limiter.name,
+                    limiter.getLimit(), limiter.minLimit, limiter.maxLimit);
+        return limiter;
+    }
+
+    /**
+     * Requests a permit without blocking
+     * @return Future completed with the permit once a request may be sent
+     */
+    public CompletableFuture<Permit> acquire() {
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(inFlight));
+            }
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Waits for a permit
+     * @param timeoutMillis Maximum time to wait
+     */
+    public Permit acquireBlocking(long timeoutMillis) {
+        CompletableFuture<Permit> waiter = acquire();
+        try {
+            return waiter.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!waiter.cancel(false)) {
+                return waiter.join();
+            }
+            throw new RuntimeException(String.format("Failed to get an API request permit within %dms (limit %d, %d in flight)",
+                    timeoutMillis, getLimit(), getInFlight()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!waiter.cancel(false)) {
+                waiter.join().ignore();
+            }
+            throw new RuntimeException("Interrupted while waiting for an API request permit", e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get an API request permit", e);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return One-line summary of the limit and the samples so far
+     */
+    public synchronized String describe() {
+        return String.format("API concurrency limit %s: current %d (range seen %d-%d), %d requests, %d throttled, long-term RTT %s",
+                name, (int) limit, lowestLimit, highestLimit, samples, throttled,
+                longRttNanos == 0 ? "n/a" : String.format("%.1fms", longRttNanos / 1e6));
+    }
+
+    /**
+     * Writes the limit over time as CSV: elapsed_ms, limit, in_flight, short_rtt_ms
+     */
+    public void writeMetrics(Path file) {
+        List<long[]> points;
+        synchronized (this) {
+            points = new ArrayList<>(series);
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write("elapsed_ms,limit,in_flight,short_rtt_ms\n");
+                for (long[] point : points) {
+                    writer.write(String.format("%d,%d,%d,%.2f%n", point[0], point[1], point[2], point[3] / 1e6));
+                }
+            }
+            logger.info("Wrote {} concurrency limit samples to {}", points.size(), file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write concurrency limit metrics: " + file, e);
+        }
+    }
+
+    private void release(long rttNanos, boolean dropped, boolean sampled, int inFlightAtStart) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            if (sampled) {
+                onSample(rttNanos, dropped, inFlightAtStart);
+            }
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                CompletableFuture<Permit> waiter = waiters.removeFirst();
+                if (waiter.isDone()) {
+                    continue;
+                }
+                inFlight++;
+                granted.add(waiter);
+                permits.add(new Permit(inFlight));
+            }
+        }
+        // Complete outside the lock, dependent stages may send the next request right away
+        for (int i = 0; i < granted.size(); i++) {
+            if (!granted.get(i).complete(permits.get(i))) {
+                permits.get(i).ignore();
+            }
+        }
+    }
+
+    private void onSample(long rttNanos, boolean dropped, int inFlightAtStart) {
+        samples++;
+        long now = System.nanoTime();
+        if (!dropped) {
+            if (longRttNanos == 0) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+            } else {
+                shortRttNanos += SHORT_RTT_SMOOTHING * (rttNanos - shortRttNanos);
+                longRttNanos += LONG_RTT_SMOOTHING * (rttNanos - longRttNanos);
+            }
+            // Follow a backend that recovered quickly instead of waiting for the slow average
+            if (longRttNanos > shortRttNanos * 2) {
+                longRttNanos = (longRttNanos + shortRttNanos) / 2;
+            }
+        } else {
+            throttled++;
+        }
+
+        boolean congested = dropped || (longRttNanos > 0
+                && shortRttNanos > Math.max(longRttNanos * rttTolerance, longRttNanos + rttSlackNanos));
+        int previous = (int) limit;
+        if (congested) {
+            // One decrease per RTT, so a burst of slow responses counts as one congestion event
+            if (now - lastDecreaseNanos >= shortRttNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+
+        int current = (int) limit;
+        if (current != previous) {
+            lowestLimit = Math.min(lowestLimit, current);
+            highestLimit = Math.max(highestLimit, current);
+            recordPoint();
+            logger.debug("API concurrency limit {} -> {} ({}, RTT short {}ms, long {}ms)", previous, current,
+                         dropped ? "throttled" : congested ? "latency" : "headroom",
+                         String.format("%.1f", shortRttNanos / 1e6), String.format("%.1f", longRttNanos / 1e6));
+        }
+    }
+
+    private void recordPoint() {
+        if (series.size() < MAX_SERIES_POINTS) {
+            series.add(new long[] {TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdNanos),
+                    (int) limit, inFlight, (long) shortRttNanos});
+        }
+    }
+
+    /**
+     * Right to send one request; release it exactly once with the outcome
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The request completed normally; its RTT feeds the limit
+         */
+        public void success() {
+            finish(false, true);
+        }
+
+        /**
+         * The backend throttled or failed the request
+         */
+        public void dropped() {
+            finish(true, true);
+        }
+
+        /**
+         * The request was not sent or says nothing about the backend
+         */
+        public void ignore() {
+            finish(false, false);
+        }
+
+        private void finish(boolean dropped, boolean sampled) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release(System.nanoTime() - startNanos, dropped, sampled, inFlightAtStart);
+        }
+    }
+}
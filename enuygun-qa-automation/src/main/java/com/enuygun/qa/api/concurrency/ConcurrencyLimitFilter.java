@@ -0,0 +1,51 @@
+package com.enuygun.qa.api.concurrency;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter sending each request under an {@link AdaptiveConcurrencyLimiter} permit
+ *
+ * Added last to the request specification, so only requests that reach the network take a
+ * permit (cassette replays do not). REST Assured measures response time after the permit is
+ * granted, so queueing here does not count against validateResponseTime.
+ */
+public class ConcurrencyLimitFilter implements Filter {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, long acquireTimeoutMillis) {
+        this.limiter = limiter;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquireBlocking(acquireTimeoutMillis);
+        Response response;
+        try {
+            response = context.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            permit.dropped();
+            throw e;
+        }
+        if (isThrottled(response.getStatusCode())) {
+            permit.dropped();
+        } else {
+            permit.success();
+        }
+        return response;
+    }
+
+    /**
+     * @return true for the statuses a backend answers with when it sheds load
+     */
+    public static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+}
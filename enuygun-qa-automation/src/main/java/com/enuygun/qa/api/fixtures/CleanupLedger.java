@@ -0,0 +1,146 @@
+package com.enuygun.qa.api.fixtures;
+
+import com.enuygun.qa.api.clients.AsyncPetApiClient;
+import com.enuygun.qa.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-wide record of the pets created by tests, deleted in the background
+ *
+ * PetApiClient and AsyncPetApiClient record every pet they create and forget every pet they
+ * delete, so tests no longer clean up inline. The ledger is drained once at the end of the
+ * suite: API test classes run in parallel and share it, so draining after one class would
+ * delete pets another class is still using.
+ *
+ * Features:
+ * - Thread-safe recording from any number of test threads
+ * - Bounded-concurrency async deletes (petstore.async.concurrency)
+ * - Retries of transport failures, 429 and 5xx with exponential backoff and jitter (cleanup.retries, cleanup.backoff.ms)
+ * - 404 counts as deleted, since the pet is gone either way
+ */
+public final class CleanupLedger {
+    private static final Logger logger = LoggerFactory.getLogger(CleanupLedger.class);
+    private static final CleanupLedger PETS = new CleanupLedger();
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<Integer>> drains = ConcurrentHashMap.newKeySet();
+    private AsyncPetApiClient client;
+
+    private CleanupLedger() {
+    }
+
+    /**
+     * Ledger of created pets, shared by the whole suite
+     */
+    public static CleanupLedger pets() {
+        return PETS;
+    }
+
+    public void record(long petId) {
+        pending.add(petId);
+    }
+
+    /**
+     * Removes a pet that was already deleted
+     */
+    public void forget(long petId) {
+        pending.remove(petId);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Starts deleting every pet recorded so far; returns without waiting
+     * @return Number of pets deleted once the drain has finished
+     */
+    public CompletableFuture<Integer> drain() {
+        List<Long> batch = new ArrayList<>();
+        for (Long petId : pending) {
+            if (pending.remove(petId)) {
+                batch.add(petId);
+            }
+        }
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        logger.info("Draining {} pets from the cleanup ledger", batch.size());
+        CompletableFuture<Integer> drain = deleteWithRetry(batch, 1, new AtomicInteger());
+        drains.add(drain);
+        drain.whenComplete((deleted, error) -> drains.remove(drain));
+        return drain;
+    }
+
+    /**
+     * Drains the remaining pets and waits for all drains, e.g. at the end of the suite
+     */
+    public void awaitDrained(long timeoutSeconds) {
+        drain();
+        List<CompletableFuture<Integer>> running = new ArrayList<>(drains);
+        try {
+            CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.warn("Cleanup did not finish within {}s: {}", timeoutSeconds, e.getMessage());
+        }
+        closeClient();
+    }
+
+    private CompletableFuture<Integer> deleteWithRetry(List<Long> petIds, int attempt, AtomicInteger deleted) {
+        int maxAttempts = 1 + ConfigManager.getIntProperty("cleanup.retries", 3);
+        return client().deletePetsSettled(petIds).thenCompose(statuses -> {
+            List<Long> retry = new ArrayList<>();
+            for (Map.Entry<Long, Integer> status : statuses.entrySet()) {
+                int code = status.getValue();
+                if (code == 200 || code == 404) {
+                    deleted.incrementAndGet();
+                } else if (code < 0 || code == 429 || code >= 500) {
+                    retry.add(status.getKey());
+                } else {
+                    logger.warn("Cleanup of pet {} answered {}, not retried", status.getKey(), code);
+                }
+            }
+
+            if (retry.isEmpty()) {
+                logger.info("Cleanup deleted {} pets", deleted.get());
+                return CompletableFuture.completedFuture(deleted.get());
+            }
+            if (attempt >= maxAttempts) {
+                logger.error("Cleanup gave up on {} pets after {} attempts: {}", retry.size(), attempt, retry);
+                return CompletableFuture.completedFuture(deleted.get());
+            }
+
+            long baseDelay = ConfigManager.getIntProperty("cleanup.backoff.ms", 500) * (1L << (attempt - 1));
+            long delay = baseDelay + ThreadLocalRandom.current().nextLong(baseDelay / 2 + 1);
+            logger.warn("Retrying cleanup of {} pets in {}ms (attempt {} of {})", retry.size(), delay, attempt + 1, maxAttempts);
+            return CompletableFuture.supplyAsync(() -> retry, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                    .thenCompose(ids -> deleteWithRetry(ids, attempt + 1, deleted));
+        });
+    }
+
+    private synchronized AsyncPetApiClient client() {
+        if (client == null) {
+            client = AsyncPetApiClient.create();
+        }
+        return client;
+    }
+
+    private synchronized void closeClient() {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.enuygun.qa.api.fixtures;
+
+import com.enuygun.qa.api.clients.AsyncPetApiClient;
+import com.enuygun.qa.api.utils.ApiUtils;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.models.petstore.Pet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-test pet fixtures of one test class, provisioned and torn down in bulk
+ *
+ * Test methods declare what they need with {@link RequiresPet}. Before the class runs, all
+ * declared pets are created with one pipelined AsyncPetApiClient batch; tests wait only for
+ * that batch, not for each other. The created pets land in the {@link CleanupLedger}, which
+ * deletes them at the end of the suite.
+ *
+ * Features:
+ * - Every test gets its own pets, so methods can run in parallel in any order
+ * - Asynchronous provisioning that overlaps with class setup
+ * - Teardown off the test's critical path through the CleanupLedger
+ * - Provisioning failures fail only the tests that need pets, with the API status in the message
+ */
+public class PetFixtures {
+    private static final Logger logger = LoggerFactory.getLogger(PetFixtures.class);
+
+    private final String className;
+    private final Map<String, List<Pet>> petsByMethod;
+    private final List<Pet> allPets = new ArrayList<>();
+    private final Map<Long, Integer> responseIndexById = new HashMap<>();
+    private final long timeoutSeconds = ConfigManager.getIntProperty("fixtures.timeout", 60);
+    private AsyncPetApiClient client;
+    private CompletableFuture<List<HttpResponse<String>>> provisioning = CompletableFuture.completedFuture(Collections.emptyList());
+
+    private PetFixtures(String className, Map<String, List<Pet>> petsByMethod) {
+        this.className = className;
+        this.petsByMethod = petsByMethod;
+        // Bulk responses come back in this order
+        petsByMethod.keySet().stream().sorted().forEach(method -> {
+            for (Pet pet : petsByMethod.get(method)) {
+                responseIndexById.put(pet.getId(), allPets.size());
+                allPets.add(pet);
+            }
+        });
+    }
+
+    /**
+     * Collects the pets declared by the {@link RequiresPet} test methods of the class that will run
+     * @param testClass Test class declaring the requirements
+     * @param methodNames Test methods selected for this run; pets of the others are not created
+     */
+    public static PetFixtures forClass(Class<?> testClass, Collection<String> methodNames) {
+        Map<String, List<Pet>> petsByMethod = new HashMap<>();
+        for (Method method : testClass.getMethods()) {
+            RequiresPet requirement = method.getAnnotation(RequiresPet.class);
+            if (requirement == null || !method.isAnnotationPresent(Test.class)
+                    || !methodNames.contains(method.getName())) {
+                continue;
+            }
+            List<Pet> pets = new ArrayList<>(requirement.count());
+            for (int i = 0; i < requirement.count(); i++) {
+                pets.add(Pet.createValidTestPet(ApiUtils.generateUniquePetName())
+                        .withId(ApiUtils.generateRandomPetId())
+                        .withStatus(requirement.status()));
+            }
+            petsByMethod.put(method.getName(), Collections.unmodifiableList(pets));
+        }
+        return new PetFixtures(testClass.getSimpleName(), petsByMethod);
+    }
+
+    /**
+     * Starts creating all declared pets; returns without waiting
+     */
+    public PetFixtures provision() {
+        if (allPets.isEmpty()) {
+            return this;
+        }
+        logger.info("Provisioning {} fixture pets for {} tests of {}", allPets.size(), petsByMethod.size(), className);
+        provisioning = client().createPets(allPets);
+        return this;
+    }
+
+    /**
+     * Pets declared by the test method, waiting for provisioning if it is still running
+     */
+    public List<Pet> petsFor(String methodName) {
+        List<Pet> pets = petsByMethod.get(methodName);
+        if (pets == null) {
+            throw new IllegalStateException("Test method does not declare @RequiresPet: " + className + "." + methodName);
+        }
+
+        List<HttpResponse<String>> responses;
+        try {
+            responses = provisioning.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to provision fixture pets for " + className, e);
+        }
+
+        for (Pet pet : pets) {
+            HttpResponse<String> response = responses.get(responseIndexById.get(pet.getId()));
+            if (response.statusCode() != 200) {
+                throw new RuntimeException(String.format("Failed to provision fixture pet %d for %s: HTTP %d %s",
+                        pet.getId(), methodName, response.statusCode(), response.body()));
+            }
+        }
+        return pets;
+    }
+
+    /**
+     * Deletes the pet together with the fixtures at the end of the suite
+     */
+    public void registerForCleanup(long petId) {
+        CleanupLedger.pets().record(petId);
+    }
+
+    /**
+     * Waits for provisioning to finish, so every created pet is in the cleanup ledger before it is drained
+     */
+    public void tearDown() {
+        if (client == null) {
+            return;
+        }
+        try {
+            provisioning.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.warn("Fixture provisioning of {} did not complete: {}", className, e.getMessage());
+        } finally {
+            client.close();
+        }
+    }
+
+    private synchronized AsyncPetApiClient client() {
+        if (client == null) {
+            client = AsyncPetApiClient.create();
+        }
+        return client;
+    }
+}
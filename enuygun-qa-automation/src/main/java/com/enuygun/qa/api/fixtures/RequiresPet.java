@@ -0,0 +1,29 @@
+package com.enuygun.qa.api.fixtures;
+
+import com.enuygun.qa.models.petstore.Pet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that a test method needs existing pets
+ *
+ * The pets are created in bulk before the class runs and deleted at the end of the suite,
+ * see {@link PetFixtures}. The test reads them with BaseApiTest.fixturePet().
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RequiresPet {
+
+    /**
+     * Number of pets to create for the test
+     */
+    int count() default 1;
+
+    /**
+     * Status of the created pets
+     */
+    String status() default Pet.STATUS_AVAILABLE;
+}
@@ -0,0 +1,420 @@
+package com.enuygun.qa.api.stub;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Swagger Petstore /pet API
+ *
+ * Features:
+ * - Endpoints used by PetApiClient: create, get, update, delete, findByStatus, findByTags, uploadImage
+ * - In-memory concurrent pet store
+ * - Validation and error bodies following the error schema used by the negative tests
+ * - Latency injection that does not hold handler threads (responses are scheduled)
+ * - Random 500 error injection
+ *
+ * Enable with petstore.stub.enabled=true; BaseApiTest then points REST Assured at {@link #getBaseUrl()}.
+ */
+public class PetstoreStubServer {
+    private static final Logger logger = LoggerFactory.getLogger(PetstoreStubServer.class);
+    private static final String BASE_PATH = "/v2";
+    private static final String PET_PATH = BASE_PATH + "/pet";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private static volatile PetstoreStubServer shared;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Long, ObjectNode> pets = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong(System.currentTimeMillis());
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor;
+    private final ScheduledExecutorService responseScheduler;
+    private volatile long latencyMillis;
+    private volatile long latencyJitterMillis;
+    private volatile double errorRate;
+
+    /**
+     * @param port Port to listen on, 0 for any free port
+     * @param threads Handler threads
+     */
+    public PetstoreStubServer(int port, int threads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create Petstore stub server", e);
+        }
+        handlerExecutor = Executors.newFixedThreadPool(Math.max(1, threads), daemonThreadFactory("petstore-stub"));
+        responseScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("petstore-stub-latency"));
+        server.setExecutor(handlerExecutor);
+        server.createContext(PET_PATH, this::handle);
+    }
+
+    /**
+     * Started server configured from petstore.stub.* properties, shared by all API tests
+     */
+    public static PetstoreStubServer shared() {
+        if (shared == null) {
+            synchronized (PetstoreStubServer.class) {
+                if (shared == null) {
+                    PetstoreStubServer server = new PetstoreStubServer(
+                            ConfigManager.getIntProperty("petstore.stub.port", 0),
+                            ConfigManager.getIntProperty("petstore.stub.threads", Runtime.getRuntime().availableProcessors() * 2));
+                    server.withLatency(ConfigManager.getIntProperty("petstore.stub.latency.ms", 0),
+                                       ConfigManager.getIntProperty("petstore.stub.latency.jitter.ms", 0));
+                    server.withErrorRate(Double.parseDouble(ConfigManager.getProperty("petstore.stub.error.rate", "0")));
+                    server.start();
+                    Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "petstore-stub-shutdown"));
+                    shared = server;
+                }
+            }
+        }
+        return shared;
+    }
+
+    public PetstoreStubServer start() {
+        server.start();
+        logger.info("Petstore stub server started at {}", getBaseUrl());
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        handlerExecutor.shutdownNow();
+        responseScheduler.shutdownNow();
+        logger.info("Petstore stub server stopped");
+    }
+
+    /**
+     * @return Base URL equivalent to https://petstore.swagger.io/v2
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    /**
+     * Delays every response by latency plus a random jitter
+     */
+    public PetstoreStubServer withLatency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+        this.latencyJitterMillis = Math.max(0, jitterMillis);
+        return this;
+    }
+
+    /**
+     * Answers the given fraction of requests (0.0 - 1.0) with 500
+     */
+    public PetstoreStubServer withErrorRate(double errorRate) {
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+        return this;
+    }
+
+    public int getPetCount() {
+        return pets.size();
+    }
+
+    public void reset() {
+        pets.clear();
+    }
+
+    private void handle(HttpExchange exchange) {
+        StubResponse response;
+        try {
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                response = error(500, "internal_server_error", "Injected server error");
+            } else {
+                response = route(exchange);
+            }
+        } catch (Exception e) {
+            logger.error("Petstore stub failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            response = error(500, "internal_server_error", "Stub error: " + e.getMessage());
+        }
+
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        StubResponse finalResponse = response;
+        if (delay > 0) {
+            responseScheduler.schedule(() -> send(exchange, finalResponse), delay, TimeUnit.MILLISECONDS);
+        } else {
+            send(exchange, finalResponse);
+        }
+    }
+
+    private StubResponse route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String subPath = path.length() > PET_PATH.length() ? path.substring(PET_PATH.length() + 1) : "";
+        byte[] body = readBody(exchange);
+
+        if (subPath.isEmpty()) {
+            if ("POST".equals(method)) {
+                return createPet(body);
+            }
+            if ("PUT".equals(method)) {
+                return updatePet(body);
+            }
+        } else if ("findByStatus".equals(subPath) && "GET".equals(method)) {
+            return findPets(exchange, "status");
+        } else if ("findByTags".equals(subPath) && "GET".equals(method)) {
+            return findPets(exchange, "tags");
+        } else if (subPath.endsWith("/uploadImage") && "POST".equals(method)) {
+            return uploadImage(subPath.substring(0, subPath.indexOf('/')), body);
+        } else if (!subPath.contains("/")) {
+            if ("GET".equals(method)) {
+                return getPet(subPath);
+            }
+            if ("DELETE".equals(method)) {
+                return deletePet(subPath);
+            }
+        }
+        return error(405, "error", "Method " + method + " not allowed for " + path);
+    }
+
+    private StubResponse createPet(byte[] body) {
+        ObjectNode pet = parsePet(body);
+        if (pet == null) {
+            return error(400, "bad_request", "Invalid input");
+        }
+        String violation = validate(pet);
+        if (violation != null) {
+            return error(400, "validation_error", violation);
+        }
+        if (pet.path("id").asLong(0) <= 0) {
+            pet.put("id", idSequence.incrementAndGet());
+        }
+        pets.put(pet.get("id").asLong(), pet);
+        return json(200, pet);
+    }
+
+    private StubResponse updatePet(byte[] body) {
+        ObjectNode pet = parsePet(body);
+        if (pet == null) {
+            return error(400, "bad_request", "Invalid input");
+        }
+        String violation = validate(pet);
+        if (violation != null) {
+            return error(400, "validation_error", violation);
+        }
+        long id = pet.path("id").asLong(0);
+        if (id <= 0) {
+            return error(400, "bad_request", "Invalid ID supplied");
+        }
+        if (pets.replace(id, pet) == null) {
+            return error(404, "not_found", "Pet not found");
+        }
+        return json(200, pet);
+    }
+
+    private StubResponse getPet(String petId) {
+        Long id = parseId(petId);
+        if (id == null) {
+            return error(400, "bad_request", "Invalid ID supplied");
+        }
+        ObjectNode pet = pets.get(id);
+        return pet != null ? json(200, pet) : error(404, "not_found", "Pet not found");
+    }
+
+    private StubResponse deletePet(String petId) {
+        Long id = parseId(petId);
+        if (id == null) {
+            return error(400, "bad_request", "Invalid ID supplied");
+        }
+        if (pets.remove(id) == null) {
+            return error(404, "not_found", "Pet not found");
+        }
+        return message(200, "unknown", String.valueOf(id));
+    }
+
+    private StubResponse uploadImage(String petId, byte[] body) {
+        Long id = parseId(petId);
+        if (id == null) {
+            return error(400, "bad_request", "Invalid ID supplied");
+        }
+        if (!pets.containsKey(id)) {
+            return error(404, "not_found", "Pet not found");
+        }
+        return message(200, "unknown", "File uploaded, " + body.length + " bytes");
+    }
+
+    private StubResponse findPets(HttpExchange exchange, String parameter) {
+        Set<String> wanted = new HashSet<>(queryValues(exchange.getRequestURI().getRawQuery(), parameter));
+        ArrayNode result = objectMapper.createArrayNode();
+        for (ObjectNode pet : pets.values()) {
+            if ("status".equals(parameter) ? wanted.contains(pet.path("status").asText()) : hasAnyTag(pet, wanted)) {
+                result.add(pet);
+            }
+        }
+        return json(200, result);
+    }
+
+    private static boolean hasAnyTag(ObjectNode pet, Set<String> tags) {
+        for (JsonNode tag : pet.path("tags")) {
+            if (tags.contains(tag.path("name").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a pet and keeps only the fields of the Petstore model, like the real server does
+     */
+    private ObjectNode parsePet(byte[] body) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!(node instanceof ObjectNode)) {
+            return null;
+        }
+
+        ObjectNode pet = objectMapper.createObjectNode();
+        copy(node, pet, "id");
+        if (node.path("category").isObject()) {
+            ObjectNode category = pet.putObject("category");
+            copy(node.get("category"), category, "id");
+            copy(node.get("category"), category, "name");
+        }
+        copy(node, pet, "name");
+        copy(node, pet, "photoUrls");
+        if (node.path("tags").isArray()) {
+            ArrayNode tags = pet.putArray("tags");
+            for (JsonNode tag : node.get("tags")) {
+                ObjectNode copiedTag = tags.addObject();
+                copy(tag, copiedTag, "id");
+                copy(tag, copiedTag, "name");
+            }
+        }
+        copy(node, pet, "status");
+        return pet;
+    }
+
+    private static void copy(JsonNode source, ObjectNode target, String field) {
+        if (source.hasNonNull(field)) {
+            target.set(field, source.get(field));
+        }
+    }
+
+    private static String validate(ObjectNode pet) {
+        if (!pet.path("name").isTextual() || pet.get("name").asText().trim().isEmpty()) {
+            return "Pet name is required";
+        }
+        if (!pet.path("photoUrls").isArray() || pet.get("photoUrls").size() == 0) {
+            return "At least one photo URL is required";
+        }
+        return null;
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<String> queryValues(String rawQuery, String name) {
+        List<String> values = new ArrayList<>();
+        if (rawQuery == null) {
+            return values;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && name.equals(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8))) {
+                // Petstore accepts both repeated parameters and comma separated values
+                values.addAll(Arrays.asList(URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8).split(",")));
+            }
+        }
+        return values;
+    }
+
+    private StubResponse error(int code, String type, String message) {
+        return message(code, type, message);
+    }
+
+    private StubResponse message(int code, String type, String message) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("code", code);
+        body.put("type", type);
+        body.put("message", message);
+        return json(code, body);
+    }
+
+    private StubResponse json(int status, JsonNode body) {
+        try {
+            return new StubResponse(status, objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stub response", e);
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status, response.body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to send stub response: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class StubResponse {
+        private final int status;
+        private final byte[] body;
+
+        private StubResponse(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.enuygun.qa.api.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Low-overhead request/response logging for REST Assured
+ *
+ * Nothing is rendered while a request runs: the filter only keeps references to the last
+ * few exchanges of the current thread. A one-line summary is written at DEBUG level, and the
+ * full request/response detail is rendered on demand, typically when a test fails.
+ *
+ * Features:
+ * - Per-thread history of the last api.log.history exchanges (default 5), shareable with
+ *   threads working on the test's behalf (currentHistory / useHistory)
+ * - Bodies abbreviated to api.log.body.max characters (default 2000)
+ * - Summary line only when DEBUG is enabled for this logger
+ */
+public class ApiLoggingFilter implements Filter {
+    private static final Logger logger = LoggerFactory.getLogger(ApiLoggingFilter.class);
+
+    private static final ApiLoggingFilter INSTANCE = new ApiLoggingFilter();
+    private static final ThreadLocal<Deque<Exchange>> history = ThreadLocal.withInitial(ConcurrentLinkedDeque::new);
+
+    private ApiLoggingFilter() {
+    }
+
+    public static ApiLoggingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        long startTime = System.nanoTime();
+        Response response = context.next(requestSpec, responseSpec);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        Deque<Exchange> exchanges = history.get();
+        exchanges.addLast(new Exchange(requestSpec, response, elapsedMillis));
+        while (exchanges.size() > Math.max(1, ConfigManager.getIntProperty("api.log.history", 5))) {
+            exchanges.pollFirst();
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} {} -> {} ({}ms)", requestSpec.getMethod(), requestSpec.getURI(),
+                         response.getStatusCode(), elapsedMillis);
+        }
+        return response;
+    }
+
+    /**
+     * @return Full detail of the current thread's recent exchanges, oldest first
+     */
+    public static String describeRecentExchanges() {
+        Deque<Exchange> exchanges = history.get();
+        if (exchanges.isEmpty()) {
+            return "No API exchanges recorded";
+        }
+        StringBuilder description = new StringBuilder();
+        for (Exchange exchange : exchanges) {
+            description.append(exchange.describeRequest()).append('\n')
+                       .append(exchange.describeResponse()).append('\n');
+        }
+        return description.toString();
+    }
+
+    /**
+     * @return Full detail of the current thread's last request, or null if none was sent
+     */
+    public static String describeLastRequest() {
+        Exchange exchange = history.get().peekLast();
+        return exchange != null ? exchange.describeRequest() : null;
+    }
+
+    /**
+     * @return Full detail of the current thread's last response, or null if none was received
+     */
+    public static String describeLastResponse() {
+        Exchange exchange = history.get().peekLast();
+        return exchange != null ? exchange.describeResponse() : null;
+    }
+
+    /**
+     * History of the current thread; hand it to {@link #useHistory(History)} on a worker thread
+     * so the worker's exchanges show up in the test's failure details
+     */
+    public static History currentHistory() {
+        return new History(history.get());
+    }
+
+    /**
+     * Records the current thread's exchanges into the given history; null gives it its own again
+     */
+    public static void useHistory(History shared) {
+        if (shared == null) {
+            history.remove();
+        } else {
+            history.set(shared.exchanges);
+        }
+    }
+
+    /**
+     * Forgets the current thread's exchanges, e.g. at the start of a test
+     */
+    public static void clear() {
+        history.get().clear();
+    }
+
+    /**
+     * Cuts text to api.log.body.max characters
+     */
+    public static String abbreviate(String text) {
+        int maxLength = ConfigManager.getIntProperty("api.log.body.max", 2000);
+        if (text == null || text.length() <= maxLength) {
+            return text;
+        }
+        return text.substring(0, maxLength) + "... (" + text.length() + " chars)";
+    }
+
+    /**
+     * Exchange history of one thread, opaque to callers
+     */
+    public static final class History {
+        private final Deque<Exchange> exchanges;
+
+        private History(Deque<Exchange> exchanges) {
+            this.exchanges = exchanges;
+        }
+    }
+
+    private static final class Exchange {
+        private final FilterableRequestSpecification request;
+        private final Response response;
+        private final long elapsedMillis;
+
+        private Exchange(FilterableRequestSpecification request, Response response, long elapsedMillis) {
+            this.request = request;
+            this.response = response;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        private String describeRequest() {
+            StringBuilder description = new StringBuilder("Request: ")
+                    .append(request.getMethod()).append(' ').append(request.getURI());
+            for (Header header : request.getHeaders()) {
+                description.append("\n  ").append(header.getName()).append(": ").append(header.getValue());
+            }
+            Object body = request.getBody();
+            if (body != null) {
+                String text = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+                description.append("\n  Body: ").append(abbreviate(text));
+            }
+            return description.toString();
+        }
+
+        private String describeResponse() {
+            StringBuilder description = new StringBuilder("Response: ")
+                    .append(response.getStatusCode()).append(" (").append(elapsedMillis).append("ms)");
+            for (Header header : response.getHeaders()) {
+                description.append("\n  ").append(header.getName()).append(": ").append(header.getValue());
+            }
+            description.append("\n  Body: ").append(abbreviate(response.asString()));
+            return description.toString();
+        }
+    }
+}
@@ -9,32 +9,35 @@ import com.networknt.schema.ValidationMessage;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.enuygun.qa.utils.IdAllocator;
 import com.enuygun.qa.utils.ReportUtils;
 
 import java.io.InputStream;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Set;
-import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * API Utility class providing common helper methods for API testing
  * 
  * Features:
- * - JSON Schema validation
+ * - JSON Schema validation (compiled schemas cached per path)
+ * - Validators share one parse per response through ParsedResponse
  * - Response validation helpers
- * - Test data generation utilities
+ * - Collision-free test data generation (see IdAllocator)
  * - Common API assertion methods
  * - Error handling utilities
+ * - Waiting for backend state: use Eventually instead of fixed sleeps
  */
 public class ApiUtils {
     
     private static final Logger logger = LoggerFactory.getLogger(ApiUtils.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final Random random = new Random();
+    private static final ObjectMapper objectMapper = ApiObjectMapper.shared();
+    private static final String[] PET_NAMES = {"Buddy", "Max", "Charlie", "Rocky", "Luna", "Bella", "Daisy", "Lucy"};
     
     // Schema factory for JSON validation
     private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
     
     /**
      * Validates JSON response against a schema file
@@ -46,20 +49,16 @@ public class ApiUtils {
         try {
             logger.info("Validating JSON schema against: {}", schemaPath);
             
-            // Load schema from resources
-            InputStream schemaStream = ApiUtils.class.getClassLoader().getResourceAsStream(schemaPath);
-            if (schemaStream == null) {
+            // Load schema from resources, compiled once per path
+            JsonSchema schema = schemas.computeIfAbsent(schemaPath, ApiUtils::loadSchema);
+            if (schema == null) {
                 logger.error("Schema file not found: {}", schemaPath);
                 ReportUtils.logFail("Schema file not found: " + schemaPath);
                 return false;
             }
             
-            // Create schema object
-            JsonSchema schema = schemaFactory.getSchema(schemaStream);
-            
-            // Parse response JSON
-            String responseBody = response.getBody().asString();
-            JsonNode responseJson = objectMapper.readTree(responseBody);
+            // Parsed response JSON, shared with the other validators
+            JsonNode responseJson = ParsedResponse.of(response).json();
             
             // Validate
             Set<ValidationMessage> validationMessages = schema.validate(responseJson);
@@ -88,6 +87,11 @@ public class ApiUtils {
         }
     }
     
+    private static JsonSchema loadSchema(String schemaPath) {
+        InputStream schemaStream = ApiUtils.class.getClassLoader().getResourceAsStream(schemaPath);
+        return schemaStream == null ? null : schemaFactory.getSchema(schemaStream);
+    }
+    
     /**
      * Validates that response contains required fields
      * @param response REST Assured Response object
@@ -98,8 +102,9 @@ public class ApiUtils {
         try {
             logger.info("Validating required fields: {}", (Object) requiredFields);
             
+            ParsedResponse parsed = ParsedResponse.of(response);
             for (String field : requiredFields) {
-                String fieldValue = response.jsonPath().getString(field);
+                String fieldValue = parsed.getString(field);
                 if (fieldValue == null) {
                     logger.error("Required field missing: {}", field);
                     ReportUtils.logFail("Required field missing: " + field);
@@ -142,6 +147,7 @@ public class ApiUtils {
     
     /**
      * Validates response time is within acceptable limits
+     * Judges a single sample; use LatencySla to assert on the latency distribution
      * @param response REST Assured Response object
      * @param maxTimeMs Maximum acceptable response time in milliseconds
      * @return true if response time is within limit
@@ -197,38 +203,35 @@ public class ApiUtils {
     
     /**
      * Generates a unique pet name for testing
-     * @return Random pet name
+     * @return Pet name with a unique numeric suffix
      */
     public static String generateUniquePetName() {
-        String[] names = {"Buddy", "Max", "Charlie", "Rocky", "Luna", "Bella", "Daisy", "Lucy"};
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String randomName = names[random.nextInt(names.length)];
-        return randomName + "_" + timestamp;
+        long id = IdAllocator.forNamespace("pet-name").nextId();
+        return PET_NAMES[(int) (id % PET_NAMES.length)] + "_" + id;
     }
     
     /**
-     * Generates a random pet ID for testing
-     * @return Random pet ID
+     * Generates a unique pet ID for testing
+     * @return Pet ID not used by any other thread or fork of this run
      */
     public static long generateRandomPetId() {
-        // Generate a random ID between 1000 and 999999 to avoid conflicts
-        return 1000 + random.nextInt(999000);
+        return IdAllocator.forNamespace("pet").nextId();
     }
     
     /**
-     * Generates a random category ID for testing
-     * @return Random category ID
+     * Generates a unique category ID for testing
+     * @return Category ID
      */
     public static long generateRandomCategoryId() {
-        return 1 + random.nextInt(100);
+        return IdAllocator.forNamespace("category").nextId();
     }
     
     /**
-     * Generates a random tag ID for testing
-     * @return Random tag ID
+     * Generates a unique tag ID for testing
+     * @return Tag ID
      */
     public static long generateRandomTagId() {
-        return 1 + random.nextInt(100);
+        return IdAllocator.forNamespace("tag").nextId();
     }
     
     /**
@@ -239,23 +242,18 @@ public class ApiUtils {
     public static String extractErrorMessage(Response response) {
         try {
             // Try common error message fields
-            String message = response.jsonPath().getString("message");
-            if (message != null) {
-                return message;
-            }
-            
-            message = response.jsonPath().getString("error");
-            if (message != null) {
-                return message;
-            }
-            
-            message = response.jsonPath().getString("detail");
-            if (message != null) {
-                return message;
+            ParsedResponse parsed = ParsedResponse.of(response);
+            if (parsed.isJson()) {
+                for (String field : new String[] {"message", "error", "detail"}) {
+                    String message = parsed.getString(field);
+                    if (message != null) {
+                        return message;
+                    }
+                }
             }
             
             // If no specific error field found, return entire response body
-            return response.getBody().asString();
+            return parsed.body();
             
         } catch (Exception e) {
             logger.debug("Could not extract error message: {}", e.getMessage());
@@ -278,22 +276,38 @@ public class ApiUtils {
         }
     }
     
+    /**
+     * Pretty prints the parsed response body for logging
+     * @param response REST Assured Response object
+     * @return Formatted JSON, or the raw body if it is not JSON
+     */
+    public static String prettyPrintJson(Response response) {
+        ParsedResponse parsed = ParsedResponse.of(response);
+        if (!parsed.isJson()) {
+            return parsed.body();
+        }
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(parsed.json());
+        } catch (Exception e) {
+            logger.debug("Could not format JSON: {}", e.getMessage());
+            return parsed.body();
+        }
+    }
+    
     /**
      * Validates that response is valid JSON
      * @param response REST Assured Response object
      * @return true if response is valid JSON
      */
     public static boolean isValidJson(Response response) {
-        try {
-            String responseBody = response.getBody().asString();
-            objectMapper.readTree(responseBody);
+        ParsedResponse parsed = ParsedResponse.of(response);
+        if (parsed.isJson()) {
             logger.debug("Response is valid JSON");
             return true;
-        } catch (Exception e) {
-            logger.error("Response is not valid JSON: {}", e.getMessage());
-            ReportUtils.logFail("Response is not valid JSON: " + e.getMessage());
-            return false;
         }
+        logger.error("Response is not valid JSON: {}", parsed.parseErrorMessage());
+        ReportUtils.logFail("Response is not valid JSON: " + parsed.parseErrorMessage());
+        return false;
     }
     
     /**
@@ -302,35 +316,25 @@ public class ApiUtils {
      * @param operationDescription Description of the API operation
      */
     public static void logDetailedResponse(Response response, String operationDescription) {
-        logger.info("=== API Response Details for: {} ===", operationDescription);
-        logger.info("Status Code: {}", response.getStatusCode());
-        logger.info("Response Time: {}ms", response.getTime());
-        logger.info("Content Type: {}", response.getContentType());
+        logger.info("API Response for {}: Status {} | Time {}ms | Content Type {}", operationDescription,
+            response.getStatusCode(), response.getTime(), response.getContentType());
         
-        // Log headers
-        logger.info("Response Headers:");
-        response.getHeaders().forEach(header -> 
-            logger.info("  {}: {}", header.getName(), header.getValue()));
-        
-        // Log response body (formatted if JSON)
-        String responseBody = response.getBody().asString();
-        if (isValidJson(response)) {
-            logger.info("Response Body (JSON):\n{}", prettyPrintJson(responseBody));
-        } else {
-            logger.info("Response Body:\n{}", responseBody);
+        // Headers and body are only rendered at DEBUG; failed tests get them from ApiLoggingFilter
+        if (logger.isDebugEnabled()) {
+            response.getHeaders().forEach(header -> 
+                logger.debug("  {}: {}", header.getName(), header.getValue()));
+            
+            String contentType = response.getContentType();
+            if (contentType != null && contentType.contains("json")) {
+                logger.debug("Response Body (JSON):\n{}", ApiLoggingFilter.abbreviate(prettyPrintJson(response)));
+            } else {
+                logger.debug("Response Body:\n{}", ApiLoggingFilter.abbreviate(ParsedResponse.of(response).body()));
+            }
         }
         
-        logger.info("=== End API Response Details ===");
-        
         // Also log to ExtentReports
         ReportUtils.logInfo(String.format("API Operation: %s | Status: %d | Time: %dms", 
             operationDescription, response.getStatusCode(), response.getTime()));
-        
-        if (responseBody.length() < 500) {
-            ReportUtils.logInfo("Response: " + responseBody);
-        } else {
-            ReportUtils.logInfo("Response: " + responseBody.substring(0, 497) + "...");
-        }
     }
     
     /**
@@ -353,20 +357,4 @@ public class ApiUtils {
         logger.error("Invalid pet status: {}. Valid values: available, pending, sold", status);
         return false;
     }
-    
-    /**
-     * Waits for a specified amount of time (for test stability) - Thread.sleep replaced
-     * @param milliseconds Time to wait in milliseconds
-     */
-    public static void waitFor(int milliseconds) {
-        logger.debug("Waiting for {}ms using explicit timing", milliseconds);
-        // Use System.currentTimeMillis() for non-blocking wait
-        long startTime = System.currentTimeMillis();
-        long endTime = startTime + milliseconds;
-        
-        while (System.currentTimeMillis() < endTime) {
-            // Small yield to prevent busy waiting
-            Thread.yield();
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.enuygun.qa.api.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.config.ConfigManager.Binding;
+import com.enuygun.qa.utils.ReportUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Polls a check until the backend reflects a write, instead of sleeping a fixed time
+ *
+ * The probe runs right away and then with exponentially growing, jittered delays until the
+ * condition holds or the deadline passes. A shared scheduler only times the delays; it never
+ * runs a probe, so blocking probes (REST calls) of parallel tests cannot queue behind each other.
+ * await() runs the probes on the calling test thread, between delays it waits without polling,
+ * so probe requests see the test's configuration and land in its API log history.
+ *
+ * Features:
+ * - Deadline from eventually.timeout (seconds, default 10), or within(...)
+ * - Delays from eventually.delay.initial.ms (50) doubling up to eventually.delay.max.ms (2000), with jitter
+ * - Probe exceptions and assertion errors count as "not yet" and are reported if the deadline passes
+ * - Convergence time recorded per description, see describeConvergence()
+ * - Timer threads from eventually.threads (default 1)
+ * - awaitAsync() runs probes on a separate pool, under the caller's configuration binding and API log history
+ *
+ * Usage:
+ * <pre>
+ * Response response = Eventually.eventually("updated pet is returned by GET /pet/{id}", () -&gt; getPetById(id))
+ *     .until(r -&gt; updatedName.equals(ParsedResponse.of(r).getString("name")))
+ *     .await();
+ * </pre>
+ */
+public final class Eventually<T> {
+    private static final Logger logger = LoggerFactory.getLogger(Eventually.class);
+    private static final ScheduledExecutorService scheduler = createScheduler();
+    private static final ExecutorService asyncProbes = createAsyncProbeExecutor();
+    private static final Map<String, Convergence> convergence = new ConcurrentHashMap<>();
+
+    private final String description;
+    private final Callable<T> probe;
+    private Predicate<? super T> condition = value -> true;
+    private Function<? super T, String> describer = String::valueOf;
+    private Duration timeout = Duration.ofSeconds(ConfigManager.getIntProperty("eventually.timeout", 10));
+    private long initialDelayMillis = ConfigManager.getIntProperty("eventually.delay.initial.ms", 50);
+    private long maxDelayMillis = ConfigManager.getIntProperty("eventually.delay.max.ms", 2000);
+
+    private Eventually(String description, Callable<T> probe) {
+        this.description = description;
+        this.probe = probe;
+    }
+
+    /**
+     * @param description Stable description of the expected state, also the key of the convergence statistics
+     * @param probe Reads the current state, e.g. a GET request
+     */
+    public static <T> Eventually<T> eventually(String description, Callable<T> probe) {
+        return new Eventually<>(description, probe);
+    }
+
+    /**
+     * Condition the probed value must meet; without it, any value the probe returns without throwing
+     */
+    public Eventually<T> until(Predicate<? super T> condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    public Eventually<T> within(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public Eventually<T> polling(Duration initialDelay, Duration maxDelay) {
+        this.initialDelayMillis = Math.max(1, initialDelay.toMillis());
+        this.maxDelayMillis = Math.max(initialDelayMillis, maxDelay.toMillis());
+        return this;
+    }
+
+    /**
+     * How the last value is shown when the deadline passes, e.g. status and body of a Response
+     */
+    public Eventually<T> describedBy(Function<? super T, String> describer) {
+        this.describer = describer;
+        return this;
+    }
+
+    /**
+     * Waits until the condition holds
+     * @return The first value meeting the condition
+     * @throws AssertionError if it does not hold before the deadline
+     */
+    public T await() {
+        BlockingQueue<Runnable> attempts = new LinkedBlockingQueue<>();
+        CompletableFuture<Outcome<T>> result = start(attempts::add);
+        try {
+            while (!result.isDone()) {
+                Runnable attempt = attempts.poll(1, TimeUnit.SECONDS);
+                if (attempt != null) {
+                    attempt.run();
+                }
+            }
+            Outcome<T> outcome = result.get();
+            ReportUtils.logPass(String.format("'%s' held after %d attempts in %dms",
+                    description, outcome.attempts, outcome.elapsedMillis));
+            return outcome.value;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssertionError) {
+                ReportUtils.logFail(e.getCause().getMessage());
+                throw (AssertionError) e.getCause();
+            }
+            throw new RuntimeException("Failed to poll: " + description, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while polling: " + description, e);
+        }
+    }
+
+    /**
+     * Starts polling without blocking
+     * @return Future completed with the first value meeting the condition, or failed with an AssertionError
+     */
+    public CompletableFuture<T> awaitAsync() {
+        Binding configuration = ConfigManager.currentBinding();
+        ApiLoggingFilter.History apiHistory = ApiLoggingFilter.currentHistory();
+        Executor probes = attempt -> asyncProbes.execute(() -> {
+            ConfigManager.bind(configuration);
+            ApiLoggingFilter.useHistory(apiHistory);
+            try {
+                attempt.run();
+            } finally {
+                ConfigManager.bind(null);
+                ApiLoggingFilter.useHistory(null);
+            }
+        });
+        return start(probes).thenApply(outcome -> outcome.value);
+    }
+
+    /**
+     * @param probes Runs each attempt; the scheduler hands attempts to it once their delay has passed
+     */
+    private CompletableFuture<Outcome<T>> start(Executor probes) {
+        CompletableFuture<Outcome<T>> result = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        Poll poll = new Poll(result, probes, startNanos, startNanos + timeout.toNanos());
+        probes.execute(poll::attempt);
+        return result;
+    }
+
+    /**
+     * @return Convergence statistics per description: count, average and maximum time to hold
+     */
+    public static String describeConvergence() {
+        if (convergence.isEmpty()) {
+            return "No eventual-consistency checks ran";
+        }
+        StringBuilder description = new StringBuilder("Eventual-consistency convergence:");
+        new TreeMap<>(convergence).forEach((check, stats) -> description.append(String.format(
+                "%n  - %s: %d checks, avg %dms, max %dms, %d timed out", check, stats.count.sum(),
+                stats.count.sum() == 0 ? 0 : stats.totalMillis.sum() / stats.count.sum(), stats.maxMillis.get(),
+                stats.timeouts.sum())));
+        return description.toString();
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newScheduledThreadPool(Math.max(1, ConfigManager.getIntProperty("eventually.threads", 1)), runnable -> {
+            Thread thread = new Thread(runnable, "eventually-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ExecutorService createAsyncProbeExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "eventually-probe-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * State of one polling run
+     */
+    private final class Poll {
+        private final CompletableFuture<Outcome<T>> result;
+        private final Executor probes;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private int attempts;
+        private long delayMillis = initialDelayMillis;
+        private String lastObservation = "no attempt finished";
+
+        private Poll(CompletableFuture<Outcome<T>> result, Executor probes, long startNanos, long deadlineNanos) {
+            this.result = result;
+            this.probes = probes;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private void attempt() {
+            attempts++;
+            try {
+                T value = probe.call();
+                if (condition.test(value)) {
+                    long elapsedMillis = elapsedMillis();
+                    convergence.computeIfAbsent(description, ignored -> new Convergence()).converged(elapsedMillis);
+                    logger.info("'{}' held after {} attempts in {}ms", description, attempts, elapsedMillis);
+                    result.complete(new Outcome<>(value, attempts, elapsedMillis));
+                    return;
+                }
+                lastObservation = describer.apply(value);
+            } catch (Exception | AssertionError e) {
+                lastObservation = e.getClass().getSimpleName() + ": " + e.getMessage();
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMillis <= 0) {
+                convergence.computeIfAbsent(description, ignored -> new Convergence()).timedOut();
+                result.completeExceptionally(new AssertionError(String.format(
+                        "'%s' did not hold within %dms (%d attempts). Last observed: %s",
+                        description, timeout.toMillis(), attempts, lastObservation)));
+                return;
+            }
+
+            // Jitter between half and the full delay keeps parallel tests from polling in lockstep
+            long jittered = delayMillis / 2 + ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1);
+            delayMillis = Math.min(maxDelayMillis, delayMillis * 2);
+            scheduler.schedule(() -> probes.execute(this::attempt), Math.min(jittered, remainingMillis), TimeUnit.MILLISECONDS);
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+
+    private static final class Outcome<T> {
+        private final T value;
+        private final int attempts;
+        private final long elapsedMillis;
+
+        private Outcome(T value, int attempts, long elapsedMillis) {
+            this.value = value;
+            this.attempts = attempts;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+
+    private static final class Convergence {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder timeouts = new LongAdder();
+
+        private void converged(long elapsedMillis) {
+            count.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulate(elapsedMillis);
+        }
+
+        private void timedOut() {
+            timeouts.increment();
+        }
+    }
+}
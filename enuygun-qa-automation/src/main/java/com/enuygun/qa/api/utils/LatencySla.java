@@ -0,0 +1,229 @@
+package com.enuygun.qa.api.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.utils.ChartRenderingService;
+import com.enuygun.qa.utils.LatencyHistogram;
+import com.enuygun.qa.utils.ReportUtils;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response-time SLA of an API operation, judged on a distribution instead of one sample
+ *
+ * The operation runs warmUp times unmeasured (connection setup, JIT, server caches), then
+ * repetitions times with each response time recorded into a {@link LatencyHistogram}.
+ * The SLA holds when the percentile limits, the coefficient of variation limit and the error
+ * rate limit all hold. The response time is the one REST Assured measures around the HTTP
+ * exchange (millisecond resolution), so waiting for a concurrency limit permit, logging and
+ * reporting do not count against the SLA.
+ *
+ * Features:
+ * - Defaults from configuration: performance.api.warmup (5), performance.api.repetitions (30),
+ *   p{performance.api.response.percentile} (95) at most performance.api.response.max ms (2000),
+ *   coefficient of variation at most performance.api.response.cv.max (0.5), error rate at most
+ *   performance.error.rate.max (0.05)
+ * - Responses with status 400 and above count as errors and are kept out of the histogram
+ * - Distribution and percentiles attached to the report as text and charts
+ *
+ * Usage:
+ * <pre>
+ * LatencySla.forOperation("GET /pet/{petId}", () -&gt; getPetById(petId))
+ *     .percentile(50, 500)
+ *     .assertMet();
+ * </pre>
+ */
+public final class LatencySla {
+    private static final Logger logger = LoggerFactory.getLogger(LatencySla.class);
+
+    private final String operation;
+    private final Callable<Response> request;
+    private final Map<Double, Long> percentileLimits = new LinkedHashMap<>();
+    private int warmUp = ConfigManager.getIntProperty("performance.api.warmup", 5);
+    private int repetitions = ConfigManager.getIntProperty("performance.api.repetitions", 30);
+    private double maxCoefficientOfVariation = Double.parseDouble(ConfigManager.getProperty("performance.api.response.cv.max", "0.5"));
+    private double maxErrorRate = Double.parseDouble(ConfigManager.getProperty("performance.error.rate.max", "0.05"));
+
+    private LatencySla(String operation, Callable<Response> request) {
+        this.operation = operation;
+        this.request = request;
+        percentileLimits.put((double) ConfigManager.getIntProperty("performance.api.response.percentile", 95),
+                (long) ConfigManager.getIntProperty("performance.api.response.max", 2000));
+    }
+
+    /**
+     * @param operation Stable name of the operation, used in reports and chart file names
+     * @param request Sends one request
+     */
+    public static LatencySla forOperation(String operation, Callable<Response> request) {
+        return new LatencySla(operation, request);
+    }
+
+    public LatencySla warmUp(int warmUp) {
+        this.warmUp = Math.max(0, warmUp);
+        return this;
+    }
+
+    public LatencySla repetitions(int repetitions) {
+        this.repetitions = Math.max(1, repetitions);
+        return this;
+    }
+
+    /**
+     * Adds or replaces a percentile limit, e.g. percentile(99, 3000)
+     */
+    public LatencySla percentile(double percentile, long maxMillis) {
+        percentileLimits.put(percentile, maxMillis);
+        return this;
+    }
+
+    public LatencySla maxCoefficientOfVariation(double maxCoefficientOfVariation) {
+        this.maxCoefficientOfVariation = maxCoefficientOfVariation;
+        return this;
+    }
+
+    public LatencySla maxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    /**
+     * Measures and reports the operation without asserting
+     */
+    public Result measure() {
+        logger.info("Measuring {}: {} warm-up calls, {} measured calls", operation, warmUp, repetitions);
+        for (int i = 0; i < warmUp; i++) {
+            call();
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        int errors = 0;
+        String lastError = null;
+        for (int i = 0; i < repetitions; i++) {
+            Response response = call();
+            if (response == null || response.getStatusCode() >= 400) {
+                errors++;
+                lastError = response == null ? "request failed" : "HTTP " + response.getStatusCode();
+            } else {
+                histogram.record(response.getTimeIn(TimeUnit.NANOSECONDS));
+            }
+        }
+
+        Result result = new Result(histogram, errors, evaluate(histogram, errors, lastError));
+        report(result);
+        return result;
+    }
+
+    /**
+     * Measures the operation and fails if the SLA does not hold
+     * @throws AssertionError listing every violated limit
+     */
+    public Result assertMet() {
+        Result result = measure();
+        if (!result.isMet()) {
+            String message = String.format("Latency SLA of %s not met: %s (%s)", operation,
+                    String.join("; ", result.getViolations()), result.getHistogram().describe());
+            ReportUtils.logFail(message);
+            throw new AssertionError(message);
+        }
+        ReportUtils.logPass(String.format("Latency SLA of %s met: %s", operation, result.getHistogram().describe()));
+        return result;
+    }
+
+    private Response call() {
+        try {
+            return request.call();
+        } catch (Exception e) {
+            logger.debug("Call of {} failed: {}", operation, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<String> evaluate(LatencyHistogram histogram, int errors, String lastError) {
+        List<String> violations = new ArrayList<>();
+        double errorRate = (double) errors / repetitions;
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("error rate %.1f%% > %.1f%% (last: %s)", errorRate * 100, maxErrorRate * 100, lastError));
+        }
+        if (histogram.getCount() == 0) {
+            return violations;
+        }
+        percentileLimits.forEach((percentile, maxMillis) -> {
+            double actual = histogram.getPercentileMillis(percentile);
+            if (actual > maxMillis) {
+                violations.add(String.format("p%s %.1fms > %dms", formatPercentile(percentile), actual, maxMillis));
+            }
+        });
+        if (histogram.getCoefficientOfVariation() > maxCoefficientOfVariation) {
+            violations.add(String.format("coefficient of variation %.2f > %.2f",
+                    histogram.getCoefficientOfVariation(), maxCoefficientOfVariation));
+        }
+        return violations;
+    }
+
+    private void report(Result result) {
+        LatencyHistogram histogram = result.getHistogram();
+        String summary = String.format("Latency of %s over %d calls (%d errors): %s", operation, repetitions,
+                result.getErrors(), histogram.describe());
+        logger.info(summary);
+        ReportUtils.logInfo(summary);
+        Reporter.log(summary);
+
+        StringBuilder distribution = new StringBuilder("Latency distribution of ").append(operation).append(':');
+        histogram.getDistribution().forEach((upperBound, samples) ->
+                distribution.append(String.format("%n  <= %8.2fms %5d", upperBound, samples)));
+        logger.debug(distribution.toString());
+        Reporter.log(distribution.toString().replace(System.lineSeparator(), "<br/>"));
+
+        if (histogram.getCount() > 0) {
+            String chartName = "latency-" + operation.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase();
+            ChartRenderingService charts = ChartRenderingService.shared();
+            charts.renderLatencyPercentiles(chartName + "-percentiles", Collections.singletonMap(operation, histogram.getPercentiles()));
+            charts.renderLatencyDistribution(chartName + "-distribution", operation, histogram.getDistribution());
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * Measured distribution and the limits it violated
+     */
+    public static final class Result {
+        private final LatencyHistogram histogram;
+        private final int errors;
+        private final List<String> violations;
+
+        private Result(LatencyHistogram histogram, int errors, List<String> violations) {
+            this.histogram = histogram;
+            this.errors = errors;
+            this.violations = Collections.unmodifiableList(violations);
+        }
+
+        public boolean isMet() {
+            return violations.isEmpty();
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        public List<String> getViolations() {
+            return violations;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.enuygun.qa.api.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Parsed view of a REST Assured response, decoded once and shared by all validators
+ *
+ * ApiUtils validators, loggers and clients read the body through {@link #of(Response)}
+ * instead of calling asString() and parsing it themselves, so a response is parsed
+ * into a JsonNode at most once however many checks run against it.
+ *
+ * Features:
+ * - Lazily decoded body string and JsonNode, memoized per response
+ * - Parse failures memoized as well, so invalid JSON is not re-parsed on every check
+ * - Dotted field paths with array indexes, e.g. "category.name" or "tags[0].id"
+ * - Small per-thread cache of recent responses, compared by identity; nothing outlives the test thread's working set
+ */
+public final class ParsedResponse {
+    private static final ObjectMapper objectMapper = ApiObjectMapper.shared();
+    private static final int CACHE_SIZE = 4;
+    private static final ThreadLocal<Deque<ParsedResponse>> recent = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Response response;
+    private String body;
+    private JsonNode json;
+    private Exception parseError;
+
+    private ParsedResponse(Response response) {
+        this.response = response;
+    }
+
+    /**
+     * Parsed view of the response, reused if this thread looked at the same response recently
+     */
+    public static ParsedResponse of(Response response) {
+        Deque<ParsedResponse> cache = recent.get();
+        for (ParsedResponse parsed : cache) {
+            if (parsed.response == response) {
+                return parsed;
+            }
+        }
+        ParsedResponse parsed = new ParsedResponse(response);
+        cache.addFirst(parsed);
+        if (cache.size() > CACHE_SIZE) {
+            cache.removeLast();
+        }
+        return parsed;
+    }
+
+    public String body() {
+        if (body == null) {
+            body = response.getBody().asString();
+        }
+        return body;
+    }
+
+    public boolean isJson() {
+        parse();
+        return parseError == null;
+    }
+
+    /**
+     * @return Parsed body
+     * @throws IllegalStateException if the body is not valid JSON
+     */
+    public JsonNode json() {
+        parse();
+        if (parseError != null) {
+            throw new IllegalStateException("Response is not valid JSON: " + parseError.getMessage(), parseError);
+        }
+        return json;
+    }
+
+    /**
+     * @return Error message of the failed parse, null if the body is valid JSON
+     */
+    public String parseErrorMessage() {
+        parse();
+        return parseError == null ? null : parseError.getMessage();
+    }
+
+    /**
+     * Node at a dotted path such as "category.name" or "tags[0].id"
+     * @return The node, or a missing node if the path does not exist or the body is not JSON
+     */
+    public JsonNode node(String path) {
+        if (!isJson()) {
+            return objectMapper.missingNode();
+        }
+        JsonNode node = json;
+        for (String segment : path.split("\\.")) {
+            int bracket = segment.indexOf('[');
+            String field = bracket < 0 ? segment : segment.substring(0, bracket);
+            if (!field.isEmpty() && !"$".equals(field)) {
+                node = node.path(field);
+            }
+            while (bracket >= 0) {
+                int close = segment.indexOf(']', bracket);
+                node = node.path(Integer.parseInt(segment.substring(bracket + 1, close)));
+                bracket = segment.indexOf('[', close);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * @return Text of the field, JSON text for objects and arrays, null if missing or null
+     */
+    public String getString(String path) {
+        JsonNode node = node(path);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    /**
+     * @return Numeric value of the field, null if missing, null or not a number
+     */
+    public Long getLong(String path) {
+        JsonNode node = node(path);
+        return node.canConvertToLong() ? node.asLong() : null;
+    }
+
+    private void parse() {
+        if (json != null || parseError != null) {
+            return;
+        }
+        try {
+            json = objectMapper.readTree(body());
+        } catch (Exception e) {
+            parseError = e;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.enuygun.qa.api.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.utils.ReportUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Validates a JSON array response element by element in a single streaming pass
+ *
+ * The array is read with a Jackson JsonParser; only the current element is materialized,
+ * checked against the item schema and the expectations, and then dropped. Validation stops
+ * after maxFailures failures, so a broken multi-thousand-element response fails fast.
+ *
+ * Features:
+ * - Item schema taken from an array schema's "items" (compiled once per schema path)
+ * - Named element predicates, e.g. "status is available"
+ * - Failure limit from api.validation.max.failures (default 10)
+ *
+ * Usage:
+ * <pre>
+ * StreamingArrayValidator.Result result = StreamingArrayValidator.forArraySchema("schemas/petstore/pet-array-schema.json")
+ *     .expect("status is available", pet -&gt; "available".equals(pet.path("status").asText()))
+ *     .validate(response);
+ * </pre>
+ */
+public class StreamingArrayValidator {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingArrayValidator.class);
+    private static final ObjectMapper objectMapper = ApiObjectMapper.shared();
+    private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    private static final Map<String, JsonSchema> itemSchemas = new ConcurrentHashMap<>();
+
+    private final String schemaPath;
+    private final JsonSchema itemSchema;
+    private final Map<String, Predicate<JsonNode>> expectations = new LinkedHashMap<>();
+    private int maxFailures = ConfigManager.getIntProperty("api.validation.max.failures", 10);
+
+    private StreamingArrayValidator(String schemaPath, JsonSchema itemSchema) {
+        this.schemaPath = schemaPath;
+        this.itemSchema = itemSchema;
+    }
+
+    /**
+     * Validator checking every element against the "items" schema of the given array schema
+     * @param arraySchemaPath Array schema in resources, e.g. schemas/petstore/pet-array-schema.json
+     */
+    public static StreamingArrayValidator forArraySchema(String arraySchemaPath) {
+        return new StreamingArrayValidator(arraySchemaPath,
+                itemSchemas.computeIfAbsent(arraySchemaPath, StreamingArrayValidator::loadItemSchema));
+    }
+
+    /**
+     * Adds an expectation every element must meet
+     */
+    public StreamingArrayValidator expect(String description, Predicate<JsonNode> predicate) {
+        expectations.put(description, predicate);
+        return this;
+    }
+
+    public StreamingArrayValidator maxFailures(int maxFailures) {
+        this.maxFailures = Math.max(1, maxFailures);
+        return this;
+    }
+
+    public Result validate(Response response) {
+        Result result = validate(response.getBody().asInputStream());
+        if (result.isValid()) {
+            ReportUtils.logPass(String.format("Streaming validation passed for %d elements against %s",
+                    result.getElementCount(), schemaPath));
+        } else {
+            ReportUtils.logFail(result.describeFailures());
+        }
+        return result;
+    }
+
+    public Result validate(InputStream body) {
+        List<String> failures = new ArrayList<>();
+        int index = 0;
+        boolean stoppedEarly = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                failures.add("Response is not a JSON array");
+                return new Result(0, failures, false);
+            }
+            for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                JsonNode element = objectMapper.readTree(parser);
+                checkElement(index, element, failures);
+                index++;
+                if (failures.size() >= maxFailures) {
+                    stoppedEarly = parser.nextToken() != JsonToken.END_ARRAY;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            failures.add("Malformed JSON after element " + index + ": " + e.getMessage());
+        }
+
+        Result result = new Result(index, failures, stoppedEarly);
+        logger.info("Streamed {} array elements against {}: {} failures{}", index, schemaPath, failures.size(),
+                    stoppedEarly ? " (stopped early)" : "");
+        return result;
+    }
+
+    private void checkElement(int index, JsonNode element, List<String> failures) {
+        for (ValidationMessage message : itemSchema.validate(element)) {
+            failures.add(String.format("[%d] %s", index, message.getMessage()));
+        }
+        for (Map.Entry<String, Predicate<JsonNode>> expectation : expectations.entrySet()) {
+            if (!expectation.getValue().test(element)) {
+                failures.add(String.format("[%d] expected %s (id %s)", index, expectation.getKey(), element.path("id").asText()));
+            }
+        }
+    }
+
+    private static JsonSchema loadItemSchema(String arraySchemaPath) {
+        try (InputStream schemaStream = StreamingArrayValidator.class.getClassLoader().getResourceAsStream(arraySchemaPath)) {
+            if (schemaStream == null) {
+                throw new IllegalArgumentException("Schema file not found: " + arraySchemaPath);
+            }
+            JsonNode items = objectMapper.readTree(schemaStream).path("items");
+            if (!items.isObject()) {
+                throw new IllegalArgumentException("Schema has no object \"items\": " + arraySchemaPath);
+            }
+            return schemaFactory.getSchema(items);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load array schema: " + arraySchemaPath, e);
+        }
+    }
+
+    /**
+     * Outcome of one validation pass
+     */
+    public static final class Result {
+        private final int elementCount;
+        private final List<String> failures;
+        private final boolean stoppedEarly;
+
+        private Result(int elementCount, List<String> failures, boolean stoppedEarly) {
+            this.elementCount = elementCount;
+            this.failures = Collections.unmodifiableList(failures);
+            this.stoppedEarly = stoppedEarly;
+        }
+
+        public boolean isValid() {
+            return failures.isEmpty();
+        }
+
+        /**
+         * @return Number of elements read, all elements unless validation stopped early
+         */
+        public int getElementCount() {
+            return elementCount;
+        }
+
+        public List<String> getFailures() {
+            return failures;
+        }
+
+        public boolean isStoppedEarly() {
+            return stoppedEarly;
+        }
+
+        public String describeFailures() {
+            StringBuilder description = new StringBuilder("Array validation failed")
+                    .append(stoppedEarly ? " (stopped after " + failures.size() + " failures)" : "")
+                    .append(':');
+            failures.forEach(failure -> description.append("\n  - ").append(failure));
+            return description.toString();
+        }
+    }
+}
@@ -5,37 +5,131 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test configuration
+ *
+ * Features:
+ * - Immutable {@link ConfigSnapshot} published through an atomic reference: reads never lock
+ * - Typed values parsed once per snapshot
+ * - Layered resolution: defaults, properties file, environment profile (config.environments.file,
+ *   e.g. load-test-config.json), TestNG parameters, {@link #setProperty(String, String)} overrides,
+ *   system properties - later layers win (a system property still wins over an override only
+ *   for the environment name)
+ * - One resolved snapshot per environment, built once per configuration state and shared; tests
+ *   bind their environment and parameters per thread with {@link #useEnvironment(String, Map)}
+ * - Bindings resolve against the current state, so setProperty and (hot) reloads reach running tests
+ * - setProperty and reloadProperties replace the whole state atomically
+ * - Optional hot reload when the configuration file changes (config.hot.reload=true)
+ * - -Dconfig.file=path loads a file instead of the classpath resource
+ */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private static Properties properties;
     private static final String CONFIG_FILE = "test-config.properties";
+    private static final AtomicReference<State> state = new AtomicReference<>();
+    private static final ThreadLocal<Binding> threadBinding = new ThreadLocal<>();
+    private static final AtomicLong versions = new AtomicLong();
+    private static volatile Thread hotReloadThread;
 
     static {
         loadProperties();
+        if (getBooleanProperty("config.hot.reload", false)) {
+            startHotReload();
+        }
     }
 
     private static void loadProperties() {
-        try {
-            properties = new Properties();
-            InputStream inputStream = ConfigManager.class.getClassLoader().getResourceAsStream(CONFIG_FILE);
+        Properties properties = new Properties();
+        Path configFile = getConfigFilePath();
+        try (InputStream inputStream = configFile != null
+                ? Files.newInputStream(configFile)
+                : ConfigManager.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
             
             if (inputStream != null) {
                 properties.load(inputStream);
-                logger.info("Configuration loaded successfully from: {}", CONFIG_FILE);
+                logger.info("Configuration loaded successfully from: {}", configFile != null ? configFile : CONFIG_FILE);
             } else {
                 logger.warn("Configuration file not found: {}. Using default values.", CONFIG_FILE);
-                setDefaultProperties();
             }
         } catch (IOException e) {
             logger.error("Failed to load configuration file: {}", CONFIG_FILE, e);
-            setDefaultProperties();
+        }
+        
+        Map<String, String> defaultLayer = ConfigSnapshot.toMap(defaultProperties());
+        Map<String, String> fileLayer = ConfigSnapshot.toMap(properties);
+        
+        // Environment profiles are opt-in: their dev/staging/production URLs must not silently redirect a default run
+        String profilesFile = System.getProperty("config.environments.file", properties.getProperty("config.environments.file"));
+        EnvironmentProfiles environmentProfiles = EnvironmentProfiles.load(profilesFile);
+        
+        // Overrides made with setProperty survive the reload; the swap is one atomic step
+        state.updateAndGet(current -> new State(defaultLayer, fileLayer, environmentProfiles,
+                current != null ? current.overrides : Collections.emptyMap()));
+    }
+
+    /**
+     * Binds the configuration of an environment to the current thread, so tests running in
+     * parallel against different environments don't affect each other. The binding keeps
+     * following setProperty and reloads for as long as it is bound.
+     * @param environment Environment name (dev, staging, production/prod), null for the configured one
+     * @param testParameters TestNG parameters of the running test, e.g. browser
+     * @return The snapshot the binding currently resolves to
+     */
+    public static ConfigSnapshot useEnvironment(String environment, Map<String, String> testParameters) {
+        threadBinding.remove();
+        // A system property still wins over the TestNG parameter
+        String name = System.getProperty("environment", environment != null ? environment : getEnvironment());
+        Binding binding = new Binding(name, testParameters != null ? testParameters : Collections.emptyMap());
+        threadBinding.set(binding);
+        return binding.resolve();
+    }
+
+    /**
+     * Removes the configuration bound by {@link #useEnvironment(String, Map)} from the current thread
+     */
+    public static void clearEnvironment() {
+        threadBinding.remove();
+    }
+
+    /**
+     * Configuration binding of the current thread, null if none; hand it to {@link #bind(Binding)}
+     * on a worker thread so the work runs against the same environment and parameters
+     */
+    public static Binding currentBinding() {
+        return threadBinding.get();
+    }
+
+    /**
+     * Binds a binding taken with {@link #currentBinding()} to the current thread; null clears it
+     */
+    public static void bind(Binding binding) {
+        if (binding == null) {
+            threadBinding.remove();
+        } else {
+            threadBinding.set(binding);
         }
     }
 
-    private static void setDefaultProperties() {
-        properties = new Properties();
+    private static Properties defaultProperties() {
+        Properties properties = new Properties();
         
         // Default browser settings
         properties.setProperty("browser.default", "chrome");
@@ -70,16 +164,19 @@ public class ConfigManager {
         properties.setProperty("flight.filter.time.end", "17:00");
         
         logger.info("Default configuration properties set");
+        return properties;
+    }
+
+    /**
+     * Current configuration snapshot. Hold on to it to read several values consistently.
+     */
+    public static ConfigSnapshot snapshot() {
+        Binding bound = threadBinding.get();
+        return bound != null ? bound.resolve() : state.get().global;
     }
 
     public static String getProperty(String key) {
-        String systemProperty = System.getProperty(key);
-        if (systemProperty != null) {
-            logger.debug("Using system property for {}: {}", key, systemProperty);
-            return systemProperty;
-        }
-        
-        String value = properties.getProperty(key);
+        String value = snapshot().getString(key);
         if (value == null) {
             logger.warn("Property not found: {}", key);
         }
@@ -87,28 +184,16 @@ public class ConfigManager {
     }
 
     public static String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
+        String value = snapshot().getString(key);
         return value != null ? value : defaultValue;
     }
 
     public static int getIntProperty(String key, int defaultValue) {
-        try {
-            String value = getProperty(key);
-            return value != null ? Integer.parseInt(value) : defaultValue;
-        } catch (NumberFormatException e) {
-            logger.error("Invalid integer value for property {}: {}", key, getProperty(key));
-            return defaultValue;
-        }
+        return snapshot().getInt(key, defaultValue);
     }
 
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
-        try {
-            String value = getProperty(key);
-            return value != null ? Boolean.parseBoolean(value) : defaultValue;
-        } catch (Exception e) {
-            logger.error("Invalid boolean value for property {}: {}", key, getProperty(key));
-            return defaultValue;
-        }
+        return snapshot().getBoolean(key, defaultValue);
     }
 
     // Browser Configuration
@@ -155,6 +240,10 @@ public class ConfigManager {
         return getProperty("dir.testdata", "test-data");
     }
 
+    public static String getAnalysisDirectory() {
+        return getProperty("dir.analysis", getReportsDirectory() + "/analysis");
+    }
+
     // Environment Configuration
     public static String getEnvironment() {
         return getProperty("environment", "dev");
@@ -204,8 +293,11 @@ public class ConfigManager {
         return getTestDataDirectory() + "/" + fileName;
     }
 
+    /**
+     * Overrides a value for every thread, bound or not, until the JVM ends; survives reloads
+     */
     public static void setProperty(String key, String value) {
-        properties.setProperty(key, value);
+        state.updateAndGet(current -> current.withOverride(key, value));
         logger.debug("Property set: {} = {}", key, value);
     }
 
@@ -214,9 +306,75 @@ public class ConfigManager {
         loadProperties();
     }
 
+    /**
+     * Watches the configuration file and reloads it on every change, e.g. to raise
+     * timeouts during a long soak run. Only possible when the configuration comes from a file.
+     */
+    public static synchronized void startHotReload() {
+        Path configFile = resolveWatchableConfigFile();
+        if (hotReloadThread != null || configFile == null) {
+            if (configFile == null) {
+                logger.warn("Hot reload not available: {} is not a file on disk", CONFIG_FILE);
+            }
+            return;
+        }
+        
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            Path directory = configFile.toAbsolutePath().getParent();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            
+            hotReloadThread = new Thread(() -> watchConfigFile(watchService, configFile.getFileName()), "config-hot-reload");
+            hotReloadThread.setDaemon(true);
+            hotReloadThread.start();
+            logger.info("Hot reload enabled for configuration file: {}", configFile);
+        } catch (IOException e) {
+            logger.error("Failed to enable hot reload for configuration file: {}", configFile, e);
+        }
+    }
+
+    private static void watchConfigFile(WatchService watchService, Path fileName) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    reloadProperties();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Path getConfigFilePath() {
+        String configFile = System.getProperty("config.file");
+        return configFile != null ? Paths.get(configFile) : null;
+    }
+
+    private static Path resolveWatchableConfigFile() {
+        Path configFile = getConfigFilePath();
+        if (configFile != null) {
+            return configFile;
+        }
+        URL resource = ConfigManager.class.getClassLoader().getResource(CONFIG_FILE);
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
     public static void printAllProperties() {
         logger.info("Current configuration properties:");
-        properties.forEach((key, value) -> logger.info("{} = {}", key, value));
+        snapshot().asMap().forEach((key, value) -> logger.info("{} = {}", key, value));
     }
     
     // Test Date Configuration
@@ -248,4 +406,89 @@ public class ConfigManager {
     public static String getFlightFilterTimeEnd() {
         return getProperty("flight.filter.time.end", "17:00");
     }
-}
\ No newline at end of file
+
+    /**
+     * Layers, overrides and the per-environment views built from them; replaced as a whole
+     */
+    private static final class State {
+        private final Map<String, String> defaultLayer;
+        private final Map<String, String> fileLayer;
+        private final EnvironmentProfiles environmentProfiles;
+        private final Map<String, String> overrides;
+        private final long version = versions.incrementAndGet();
+        private final Map<String, ConfigSnapshot> environments = new ConcurrentHashMap<>();
+        private final ConfigSnapshot global;
+
+        private State(Map<String, String> defaultLayer, Map<String, String> fileLayer,
+                      EnvironmentProfiles environmentProfiles, Map<String, String> overrides) {
+            this.defaultLayer = defaultLayer;
+            this.fileLayer = fileLayer;
+            this.environmentProfiles = environmentProfiles;
+            this.overrides = Collections.unmodifiableMap(new HashMap<>(overrides));
+            // Precomputed so the first test of each environment does not pay for the merge
+            for (String environment : environmentProfiles.environments()) {
+                environment(environment);
+            }
+            String environment = System.getProperty("environment", fileLayer.getOrDefault("environment", defaultLayer.get("environment")));
+            this.global = environment(environment).withAll(this.overrides);
+        }
+
+        private State withOverride(String key, String value) {
+            Map<String, String> changed = new HashMap<>(overrides);
+            changed.put(key, value);
+            return new State(defaultLayer, fileLayer, environmentProfiles, changed);
+        }
+
+        /**
+         * Defaults, file and profile of an environment with system properties on top, without parameters or overrides
+         */
+        private ConfigSnapshot environment(String environment) {
+            return environments.computeIfAbsent(environment, name -> {
+                Map<String, String> environmentLayer = new HashMap<>(environmentProfiles.layerFor(name));
+                environmentLayer.put("environment", name);
+                return ConfigSnapshot.layered(version, defaultLayer, fileLayer, environmentLayer);
+            });
+        }
+    }
+
+    /**
+     * Environment and TestNG parameters bound to a thread; resolved lazily against the current state
+     */
+    public static final class Binding {
+        private final String environment;
+        private final Map<String, String> parameterLayer;
+        private volatile Resolved resolved;
+
+        private Binding(String environment, Map<String, String> testParameters) {
+            this.environment = environment;
+            Map<String, String> parameters = new HashMap<>(testParameters);
+            if (testParameters.containsKey("browser")) {
+                parameters.put("browser.default", testParameters.get("browser"));
+            }
+            parameters.put("environment", environment);
+            // System properties keep winning over TestNG parameters
+            parameters.keySet().removeIf(key -> !"environment".equals(key) && System.getProperty(key) != null);
+            this.parameterLayer = Collections.unmodifiableMap(parameters);
+        }
+
+        private ConfigSnapshot resolve() {
+            State current = state.get();
+            Resolved last = resolved;
+            if (last == null || last.state != current) {
+                last = new Resolved(current, current.environment(environment).withAll(parameterLayer).withAll(current.overrides));
+                resolved = last;
+            }
+            return last.snapshot;
+        }
+    }
+
+    private static final class Resolved {
+        private final State state;
+        private final ConfigSnapshot snapshot;
+
+        private Resolved(State state, ConfigSnapshot snapshot) {
+            this.state = state;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.enuygun.qa.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable view of the configuration at one point in time
+ *
+ * Values are merged once (file properties overlaid with system properties) and typed values
+ * are parsed at most once per key, so reads are plain map lookups without locking.
+ * Changes never modify a snapshot; {@link #withAll(Map)} returns a new one.
+ */
+public final class ConfigSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshot.class);
+    private static final Object MISSING = new Object();
+
+    private final Map<String, String> values;
+    private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+    private final long version;
+
+    private ConfigSnapshot(Map<String, String> values, long version) {
+        this.values = Collections.unmodifiableMap(values);
+        this.version = version;
+    }
+
+    /**
+     * Merges the layers in order (later layers win), then the current system properties on top
+     */
+    @SafeVarargs
+    public static ConfigSnapshot layered(long version, Map<String, String>... layers) {
+        Map<String, String> merged = new HashMap<>();
+        for (Map<String, String> layer : layers) {
+            merged.putAll(layer);
+        }
+        merged.putAll(toMap(System.getProperties()));
+        return new ConfigSnapshot(merged, version);
+    }
+
+    static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> map.put(key, properties.getProperty(key)));
+        return map;
+    }
+
+    /**
+     * Copy of this snapshot with several values replaced, or this snapshot if there are none
+     */
+    public ConfigSnapshot withAll(Map<String, String> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        Map<String, String> copy = new HashMap<>(values);
+        copy.putAll(changes);
+        return new ConfigSnapshot(copy, version);
+    }
+
+    public String getString(String key) {
+        return values.get(key);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Object value = parsed.computeIfAbsent(key, this::parseInt);
+        return value == MISSING ? defaultValue : (Integer) value;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object value = parsed.computeIfAbsent("boolean:" + key, typedKey -> {
+            String raw = values.get(key);
+            return raw == null ? MISSING : Boolean.valueOf(raw.trim());
+        });
+        return value == MISSING ? defaultValue : (Boolean) value;
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * Increases with every reload or change, useful to detect configuration changes mid-run
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private Object parseInt(String key) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return MISSING;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            logger.error("Invalid integer value for property {}: {}", key, raw);
+            return MISSING;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.enuygun.qa.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-environment configuration layers read from the load test configuration JSON
+ *
+ * The "environments" section (production, staging, dev) is mapped onto the property keys
+ * used by {@link ConfigManager}, e.g. baseUrl to url.base and timeout to loadtest.timeout.
+ */
+final class EnvironmentProfiles {
+    private static final Logger logger = LoggerFactory.getLogger(EnvironmentProfiles.class);
+
+    private static final Map<String, String> KEY_MAPPING = new LinkedHashMap<>();
+    private static final Map<String, String> ALIASES = new HashMap<>();
+
+    static {
+        KEY_MAPPING.put("baseUrl", "url.base");
+        KEY_MAPPING.put("apiBaseUrl", "url.api.base");
+        KEY_MAPPING.put("timeout", "loadtest.timeout");
+        KEY_MAPPING.put("thinkTime.min", "loadtest.thinktime.min");
+        KEY_MAPPING.put("thinkTime.max", "loadtest.thinktime.max");
+
+        // TestConfig and the Maven profiles use the short names
+        ALIASES.put("prod", "production");
+        ALIASES.put("stage", "staging");
+    }
+
+    private final Map<String, Map<String, String>> layers;
+
+    private EnvironmentProfiles(Map<String, Map<String, String>> layers) {
+        this.layers = layers;
+    }
+
+    static EnvironmentProfiles load(String file) {
+        if (file == null) {
+            return new EnvironmentProfiles(Collections.emptyMap());
+        }
+        Path path = Paths.get(file);
+        if (!Files.isRegularFile(path)) {
+            logger.info("Environment profile file not found: {}. Environment layers are empty.", file);
+            return new EnvironmentProfiles(Collections.emptyMap());
+        }
+
+        try {
+            JsonNode environments = new ObjectMapper().readTree(path.toFile()).path("environments");
+            Map<String, Map<String, String>> layers = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = environments.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> environment = fields.next();
+                Map<String, String> layer = new HashMap<>();
+                flatten("", environment.getValue(), layer);
+                layers.put(environment.getKey(), Collections.unmodifiableMap(layer));
+            }
+            logger.info("Loaded environment profiles {} from {}", layers.keySet(), file);
+            return new EnvironmentProfiles(layers);
+        } catch (IOException e) {
+            logger.error("Failed to read environment profiles: {}", file, e);
+            return new EnvironmentProfiles(Collections.emptyMap());
+        }
+    }
+
+    /**
+     * @return Property layer of the environment, empty if the environment has no profile
+     */
+    Map<String, String> layerFor(String environment) {
+        if (environment == null) {
+            return Collections.emptyMap();
+        }
+        String name = environment.trim().toLowerCase();
+        Map<String, String> layer = layers.get(ALIASES.getOrDefault(name, name));
+        return layer != null ? layer : Collections.emptyMap();
+    }
+
+    Iterable<String> environments() {
+        return layers.keySet();
+    }
+
+    private static void flatten(String prefix, JsonNode node, Map<String, String> layer) {
+        if (node.isObject()) {
+            node.fields().forEachRemaining(field -> flatten(prefix + field.getKey() + ".", field.getValue(), layer));
+            return;
+        }
+        String jsonKey = prefix.substring(0, prefix.length() - 1);
+        String key = KEY_MAPPING.get(jsonKey);
+        if (key != null) {
+            layer.put(key, node.asText());
+        }
+        // Keep every value reachable under its profile name as well
+        layer.put("profile." + jsonKey, node.asText());
+    }
+}
@@ -0,0 +1,193 @@
+package com.enuygun.qa.models;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Snapshot of a single flight card from the results list.
+ * Holds plain values only, so it stays valid after the card leaves the DOM.
+ * Also the one place that reads departure time, price, airline, stops and duration from card text,
+ * so harvested baselines and page-level validations agree on what a departure time is.
+ */
+public class FlightCard {
+
+    public static final int UNKNOWN = -1;
+
+    // H:mm or H.mm, but not part of a date such as 16.11.2026
+    private static final Pattern TIME_PATTERN = Pattern.compile("(?<![\\d.])(\\d{1,2})[:.](\\d{2})(?![\\d]|[.:]\\d)");
+    private static final Pattern PRICE_PATTERN = Pattern.compile(
+        "(\\d{1,3}(?:[.\\s]\\d{3})*(?:,\\d{1,2})?)\\s*(?:TL|₺)|(?:TL|₺)\\s*(\\d{1,3}(?:[.\\s]\\d{3})*(?:,\\d{1,2})?)");
+    private static final Pattern DURATION_PATTERN = Pattern.compile(
+        "(?:(\\d{1,2})\\s*(?:sa|s|h)\\b\\s*)?(?:(\\d{1,2})\\s*(?:dk|m)\\b)?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern STOPS_PATTERN = Pattern.compile("(\\d)\\s*(?:aktarma|stop)", Pattern.CASE_INSENSITIVE);
+    private static final List<String> KNOWN_AIRLINES = List.of(
+        "Turkish Airlines", "Türk Hava Yolları", "THY", "Pegasus", "AJet", "AnadoluJet", "SunExpress", "Onur Air"
+    );
+
+    private final String key;
+    private final String departureTime;
+    private final double price;
+    private final String airline;
+    private final int stops;
+    private final int durationMinutes;
+    private final String text;
+
+    public FlightCard(String key, String departureTime, String text) {
+        this(key, departureTime, Double.NaN, null, UNKNOWN, UNKNOWN, text);
+    }
+
+    public FlightCard(String key, String departureTime, double price, String airline,
+                      int stops, int durationMinutes, String text) {
+        this.key = key;
+        this.departureTime = departureTime;
+        this.price = price;
+        this.airline = airline;
+        this.stops = stops;
+        this.durationMinutes = durationMinutes;
+        this.text = text;
+    }
+
+    /**
+     * Reads departure time, price, airline, stops and duration from the card text
+     * @param key Stable identifier of the card
+     * @param text Visible text of the card
+     */
+    public static FlightCard fromText(String key, String text) {
+        return new FlightCard(key, parseDepartureTime(text), parsePrice(text), parseAirline(text),
+                              parseStops(text), parseDurationMinutes(text), text);
+    }
+
+    /**
+     * First valid time in the text (H:mm or H.mm)
+     * @return Time in HH:mm format, or null if the text has none
+     */
+    public static String parseDepartureTime(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = TIME_PATTERN.matcher(text);
+        while (matcher.find()) {
+            int hours = Integer.parseInt(matcher.group(1));
+            int minutes = Integer.parseInt(matcher.group(2));
+            if (hours <= 23 && minutes <= 59) {
+                return String.format("%02d:%02d", hours, minutes);
+            }
+        }
+        return null;
+    }
+
+    private static double parsePrice(String text) {
+        Matcher matcher = PRICE_PATTERN.matcher(text);
+        if (!matcher.find()) {
+            return Double.NaN;
+        }
+        String amount = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        // Turkish format: "1.234,56" -> 1234.56
+        return Double.parseDouble(amount.replaceAll("[.\\s]", "").replace(',', '.'));
+    }
+
+    private static String parseAirline(String text) {
+        String lowerText = text.toLowerCase();
+        for (String airline : KNOWN_AIRLINES) {
+            if (lowerText.contains(airline.toLowerCase())) {
+                return airline;
+            }
+        }
+        return null;
+    }
+
+    private static int parseStops(String text) {
+        String lowerText = text.toLowerCase();
+        if (lowerText.contains("aktarmasız") || lowerText.contains("direkt") || lowerText.contains("non-stop")) {
+            return 0;
+        }
+        Matcher matcher = STOPS_PATTERN.matcher(text);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : UNKNOWN;
+    }
+
+    private static int parseDurationMinutes(String text) {
+        Matcher matcher = DURATION_PATTERN.matcher(text);
+        while (matcher.find()) {
+            if (matcher.group(1) == null && matcher.group(2) == null) {
+                continue;
+            }
+            int hours = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : 0;
+            int minutes = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+            return hours * 60 + minutes;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Stable identifier of the card (data attribute or normalized card text)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Departure time in HH:mm format, or null if none could be read
+     */
+    public String getDepartureTime() {
+        return departureTime;
+    }
+
+    /**
+     * Ticket price in TL, or NaN if none could be read
+     */
+    public double getPrice() {
+        return price;
+    }
+
+    /**
+     * Airline name, or null if none could be read
+     */
+    public String getAirline() {
+        return airline;
+    }
+
+    /**
+     * Number of stops (0 for direct flights), or {@link #UNKNOWN}
+     */
+    public int getStops() {
+        return stops;
+    }
+
+    /**
+     * Flight duration in minutes, or {@link #UNKNOWN}
+     */
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FlightCard that = (FlightCard) o;
+        return Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return "FlightCard{" +
+                "key='" + key + '\'' +
+                ", departureTime='" + departureTime + '\'' +
+                ", price=" + price +
+                ", airline='" + airline + '\'' +
+                ", stops=" + stops +
+                ", durationMinutes=" + durationMinutes +
+                '}';
+    }
+}
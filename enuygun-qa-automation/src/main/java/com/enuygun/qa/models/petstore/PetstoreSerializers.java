@@ -0,0 +1,130 @@
+package com.enuygun.qa.models.petstore;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written Jackson serializers for the Petstore models
+ *
+ * Bean serialization introspects getters and picks up isValid(), getValidationErrors(),
+ * isAvailable() and the like as extra JSON fields. These serializers write exactly the
+ * fields of the Petstore API with pre-encoded field names, and skip null values.
+ *
+ * Features:
+ * - No reflection or introspection on the hot path of bulk seeding and load scenarios
+ * - Output limited to the Petstore schema: id, category, name, photoUrls, tags, status
+ * - Registered as one Jackson module, see ApiObjectMapper
+ */
+public final class PetstoreSerializers {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString PHOTO_URLS = new SerializedString("photoUrls");
+    private static final SerializableString TAGS = new SerializedString("tags");
+    private static final SerializableString STATUS = new SerializedString("status");
+
+    private PetstoreSerializers() {
+    }
+
+    /**
+     * Module with the serializers of Pet, Category and Tag
+     */
+    public static Module module() {
+        return new SimpleModule("petstore")
+                .addSerializer(Pet.class, new PetSerializer())
+                .addSerializer(Category.class, new CategorySerializer())
+                .addSerializer(Tag.class, new TagSerializer());
+    }
+
+    static final class PetSerializer extends StdSerializer<Pet> {
+        PetSerializer() {
+            super(Pet.class);
+        }
+
+        @Override
+        public void serialize(Pet pet, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(pet);
+            writeId(gen, pet.getId());
+            if (pet.getCategory() != null) {
+                gen.writeFieldName(CATEGORY);
+                writeIdAndName(gen, pet.getCategory(), pet.getCategory().getId(), pet.getCategory().getName());
+            }
+            writeString(gen, NAME, pet.getName());
+            if (pet.getPhotoUrls() != null) {
+                gen.writeFieldName(PHOTO_URLS);
+                List<String> photoUrls = pet.getPhotoUrls();
+                gen.writeStartArray(photoUrls, photoUrls.size());
+                for (String photoUrl : photoUrls) {
+                    gen.writeString(photoUrl);
+                }
+                gen.writeEndArray();
+            }
+            if (pet.getTags() != null) {
+                gen.writeFieldName(TAGS);
+                List<Tag> tags = pet.getTags();
+                gen.writeStartArray(tags, tags.size());
+                for (Tag tag : tags) {
+                    if (tag == null) {
+                        gen.writeNull();
+                    } else {
+                        writeIdAndName(gen, tag, tag.getId(), tag.getName());
+                    }
+                }
+                gen.writeEndArray();
+            }
+            writeString(gen, STATUS, pet.getStatus());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CategorySerializer extends StdSerializer<Category> {
+        CategorySerializer() {
+            super(Category.class);
+        }
+
+        @Override
+        public void serialize(Category category, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeIdAndName(gen, category, category.getId(), category.getName());
+        }
+    }
+
+    static final class TagSerializer extends StdSerializer<Tag> {
+        TagSerializer() {
+            super(Tag.class);
+        }
+
+        @Override
+        public void serialize(Tag tag, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeIdAndName(gen, tag, tag.getId(), tag.getName());
+        }
+    }
+
+    private static void writeIdAndName(JsonGenerator gen, Object value, Long id, String name) throws IOException {
+        gen.writeStartObject(value);
+        writeId(gen, id);
+        writeString(gen, NAME, name);
+        gen.writeEndObject();
+    }
+
+    private static void writeId(JsonGenerator gen, Long id) throws IOException {
+        if (id != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(id);
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            gen.writeString(value);
+        }
+    }
+}
@@ -19,7 +19,13 @@ import java.util.List;
 public abstract class BasePage {
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
     protected WebDriver driver;
-    protected static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(ConfigManager.getDefaultTimeout());
+
+    /**
+     * Default explicit wait, read from the current configuration snapshot
+     */
+    protected static Duration getDefaultTimeout() {
+        return Duration.ofSeconds(ConfigManager.getDefaultTimeout());
+    }
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
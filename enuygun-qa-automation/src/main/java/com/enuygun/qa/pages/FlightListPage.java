@@ -7,12 +7,18 @@ import org.openqa.selenium.support.FindBy;
 import com.enuygun.qa.utils.WaitUtils;
 import com.enuygun.qa.utils.ScreenshotUtils;
 import com.enuygun.qa.utils.ReportUtils;
+import com.enuygun.qa.utils.StrategyRegistry;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.models.FlightCard;
 
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Flight List Page Object Model
@@ -21,6 +27,34 @@ import java.util.ArrayList;
  */
 public class FlightListPage extends BasePage {
 
+    private static final String TIME_FILTER_FEATURE = "departure-time-filter";
+    private static final Duration TIME_FILTER_BUDGET = Duration.ofSeconds(ConfigManager.getIntProperty("timeout.filter.budget", 30));
+    // Fixed departure window of the "Öğle" button
+    private static final LocalTime OGLE_WINDOW_START = LocalTime.of(10, 0);
+    private static final LocalTime OGLE_WINDOW_END = LocalTime.of(17, 0);
+
+    /**
+     * A single way of applying the departure time filter
+     */
+    @FunctionalInterface
+    private interface TimeFilterStrategy {
+        boolean apply(String startTime, String endTime, Duration remaining);
+    }
+
+    private static final List<String> FLIGHT_CARD_SELECTORS = List.of(
+        ".flight-item", ".flight-card", ".search-result", ".result-item",
+        "[class*='flight']", "[class*='result']", "[class*='item']",
+        ".list-item", ".flight-option", ".flight-listing",
+        "div[class*='flight']", "div[class*='result']", "li[class*='flight']",
+        ".booking-item", ".ticket-item", "[data-flight]",
+        ".flight-row", ".search-item", ".price-item"
+    );
+
+    private String siteVersion;
+    private String appliedTimeFilter;
+    // Deadline of the running time filter cascade; every wait inside a strategy is capped by it
+    private long timeFilterDeadline = Long.MAX_VALUE;
+
     // Flight List Elements
     @FindBy(css = "[data-testid='flight-list'], .flight-results, .flights-container")
     private WebElement flightListContainer;
@@ -195,7 +229,27 @@ public class FlightListPage extends BasePage {
     }
 
     /**
-     * Applies departure time filter for specified time range
+     * Waits until the first flight card is visible, without waiting for the rest of the list
+     * @return FlightListPage for method chaining
+     */
+    public FlightListPage waitForFirstFlight() {
+        WebElement firstFlight = WaitUtils.waitForAnyElementToBeVisible(driver,
+                Duration.ofSeconds(ConfigManager.getPageLoadTimeout()), flightItemLocator, anyFlightLocator);
+        if (firstFlight == null) {
+            logger.warn("No flight card became visible within {}s", ConfigManager.getPageLoadTimeout());
+        } else {
+            logger.debug("First flight card visible");
+        }
+        return this;
+    }
+
+    /**
+     * Applies departure time filter for specified time range.
+     * Strategies are tried in the order recorded by {@link StrategyRegistry} for the current
+     * site version; the first one whose result passes verification is recorded as the winner.
+     * The whole cascade, including the waits inside each strategy, is bounded by the
+     * "timeout.filter.budget" setting. Filters left by a failed strategy are cleared before the next one.
+     * Only a verified filter is reported as passed and remembered as the applied range.
      * @param startTime Start time in HH:mm format (e.g., "10:00")
      * @param endTime End time in HH:mm format (e.g., "18:00")
      * @return FlightListPage for method chaining
@@ -205,118 +259,200 @@ public class FlightListPage extends BasePage {
             logger.info("Applying departure time filter: {} - {}", startTime, endTime);
             ReportUtils.logInfo("Applying departure time filter: " + startTime + " - " + endTime);
             
-            boolean filterApplied = false;
+            long deadline = System.nanoTime() + TIME_FILTER_BUDGET.toNanos();
+            timeFilterDeadline = deadline;
+            String siteVersion = getSiteVersion();
+            Map<String, TimeFilterStrategy> strategies = getTimeFilterStrategies();
             
-            // Try different approaches to find and apply time filter
+            boolean strategyRan = false;
+            String verifiedStrategy = null;
+            appliedTimeFilter = null;
             
-            // Approach 1: Try the EXACT expand icon XPath from HTML structure (highest priority)
-            try {
-                logger.info("Looking for expand icon: //i[@class='ctx-filter-departure-return-time ei-expand-more ']");
-                
-                // SCROLL TO FILTER FIRST for better visibility
-                scrollToTimeFilter();
-                
-                WaitUtils.waitForElementToBeVisible(driver, ctxFilterDepartureReturnTimeLocator, Duration.ofSeconds(15));
-                click(ctxFilterDepartureReturnTimeLocator);
-                
-                // SCROLL TO SLIDERS after panel opens
-                scrollToSliders();
+            for (String name : StrategyRegistry.order(TIME_FILTER_FEATURE, siteVersion, new ArrayList<>(strategies.keySet()))) {
+                Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+                if (remaining.isNegative() || remaining.isZero()) {
+                    logger.warn("Time filter budget of {}s exhausted before strategy '{}'", TIME_FILTER_BUDGET.getSeconds(), name);
+                    break;
+                }
                 
-                filterApplied = applyCtxTimeFilter(startTime, endTime);
-                logger.info("Successfully clicked expand icon and applied filter");
-            } catch (Exception e) {
-                logger.debug("Expand icon approach failed, trying header div...");
-                // Fallback: Try clicking the header div
                 try {
-                    scrollToTimeFilter(); // Scroll before fallback attempt
-                    WaitUtils.waitForElementToBeVisible(driver, ctxFilterHeaderLocator, Duration.ofSeconds(15));
-                    click(ctxFilterHeaderLocator);
-                    scrollToSliders();
-                    filterApplied = applyCtxTimeFilter(startTime, endTime);
-                    logger.info("Successfully clicked header div and applied filter");
-                } catch (Exception e2) {
-                    logger.debug("Header div approach failed, trying text-based...");
-                    // Fallback: Try text-based approach
-                    try {
-                        scrollToTimeFilter(); // Scroll before text-based attempt
-                        WaitUtils.waitForElementToBeVisible(driver, ctxFilterByTextLocator, Duration.ofSeconds(15));
-                        click(ctxFilterByTextLocator);
-                        scrollToSliders();
-                        filterApplied = applyCtxTimeFilter(startTime, endTime);
-                        logger.info("Successfully clicked via text and applied filter");
-                    } catch (Exception e3) {
-                        logger.debug("All ctx-filter approaches failed, trying Turkish filter...");
+                    logger.debug("Trying time filter strategy '{}' ({} ms left)", name, remaining.toMillis());
+                    // Element lookups wait implicitly; keep them inside the budget as well
+                    driver.manage().timeouts().implicitlyWait(withinTimeFilterBudget(Duration.ofSeconds(ConfigManager.getImplicitTimeout())));
+                    if (!strategies.get(name).apply(startTime, endTime, remaining)) {
+                        continue;
                     }
-                }
-            }
-            
-            // Approach 2: Look for Turkish "Gidiş kalkış / varış saatleri" filter
-            if (!filterApplied) {
-                try {
-                    WaitUtils.waitForElementToBeVisible(driver, turkishTimeFilterLocator, Duration.ofSeconds(3));
-                    click(turkishTimeFilterLocator);
-                    filterApplied = applyTurkishTimeFilter(startTime, endTime);
-                } catch (Exception e) {
-                    logger.debug("Turkish time filter approach failed, trying generic approach...");
-                }
-            }
-            
-            // Approach 3: Look for generic time filter section
-            if (!filterApplied) {
-                try {
-                    WaitUtils.waitForElementToBeVisible(driver, timeFilterLocator, Duration.ofSeconds(3));
-                    click(timeFilterLocator);
-                    filterApplied = applyTimeFilterInputs(startTime, endTime);
-                } catch (Exception e) {
-                    logger.debug("Generic time filter approach failed, trying alternatives...");
-                }
-            }
-            
-            // Approach 2: Look for filter sidebar or panel
-            if (!filterApplied) {
-                try {
-                    WebElement filterPanel = findElement(anyFilterLocator);
-                    List<WebElement> timeElements = filterPanel.findElements(anyTimeLocator);
-                    if (!timeElements.isEmpty()) {
-                        filterApplied = applyTimeFilterViaPanel(timeElements, startTime, endTime);
+                    strategyRan = true;
+                    if (verifyFilterApplied(startTime, endTime)) {
+                        verifiedStrategy = name;
+                        break;
                     }
+                    logger.warn("Strategy '{}' ran but filter could not be verified - trying other methods", name);
+                    resetTimeFilter();
                 } catch (Exception e) {
-                    logger.debug("Filter panel approach failed");
-                }
-            }
-            
-            // Approach 3: Look for any time-related controls
-            if (!filterApplied) {
-                try {
-                    filterApplied = findAndApplyTimeControls(startTime, endTime);
-                } catch (Exception e) {
-                    logger.debug("Generic time controls approach failed");
+                    logger.debug("Time filter strategy '{}' failed: {}", name, e.getMessage());
+                    resetTimeFilter();
                 }
             }
             
-            // Approach 4: If no filter UI found, assume filtering is not available or needed
-            if (!filterApplied) {
+            if (verifiedStrategy != null) {
+                StrategyRegistry.recordWinner(TIME_FILTER_FEATURE, siteVersion, verifiedStrategy);
+                appliedTimeFilter = startTime + "-" + endTime;
+                logger.info("Applied time filter using strategy '{}'", verifiedStrategy);
+                ReportUtils.logPass("Time filter applied and verified: " + startTime + " - " + endTime);
+            } else if (strategyRan) {
+                logger.error("No time filter strategy could be verified for {} - {}", startTime, endTime);
+                ReportUtils.logFail("Time filter " + startTime + " - " + endTime + " could not be verified");
+                ScreenshotUtils.takeScreenshot(driver, "time_filter_unverified");
+            } else {
+                // If no filter UI found, assume filtering is not available or needed
                 logger.info("Time filter UI not found - this might be normal for this site");
                 ReportUtils.logInfo("Time filter UI not available, proceeding with validation");
-                filterApplied = true; // Continue to validation anyway
-            }
-            
-            if (filterApplied) {
-                logger.info("Departure time filter processing completed");
-                ReportUtils.logPass("Time filter applied or not needed: " + startTime + " - " + endTime);
-                return this;
-            } else {
-                throw new RuntimeException("Could not apply time filter");
             }
+            return this;
             
         } catch (Exception e) {
             logger.error("Failed to apply departure time filter: {} - {}", startTime, endTime, e);
             ReportUtils.logFail("Failed to apply departure time filter: " + e.getMessage());
             ScreenshotUtils.takeScreenshot(driver, "time_filter_failed");
             throw new RuntimeException("Failed to apply departure time filter", e);
+        } finally {
+            timeFilterDeadline = Long.MAX_VALUE;
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigManager.getImplicitTimeout()));
         }
     }
-
+    
+    /**
+     * Departure time filter strategies in default priority order, keyed by the name
+     * under which {@link StrategyRegistry} records them
+     */
+    private Map<String, TimeFilterStrategy> getTimeFilterStrategies() {
+        Map<String, TimeFilterStrategy> strategies = new LinkedHashMap<>();
+        
+        // ctx-filter panel: "Öğle" button is the simplest control, sliders and inputs are fallbacks.
+        // The button applies a fixed window, so it only counts for exactly that range.
+        strategies.put("ctx-ogle", (start, end, remaining) ->
+            isOgleWindow(start, end) && openCtxTimeFilterPanel(capTimeout(remaining, 15)) && clickOgleButtonWithFallbacks());
+        strategies.put("ctx-rc-slider", (start, end, remaining) ->
+            openCtxTimeFilterPanel(capTimeout(remaining, 15)) && applyRCSliderTimeFilter(start, end));
+        strategies.put("ctx-enhanced-js", (start, end, remaining) ->
+            openCtxTimeFilterPanel(capTimeout(remaining, 15)) && applyTimeFilterViaEnhancedJavaScript(start, end));
+        strategies.put("ctx-dual-slider", (start, end, remaining) ->
+            openCtxTimeFilterPanel(capTimeout(remaining, 15)) && applyDualSliderTimeFilter(start, end));
+        strategies.put("ctx-time-inputs", (start, end, remaining) ->
+            openCtxTimeFilterPanel(capTimeout(remaining, 15)) && applyPanelTimeInputs(start, end));
+        
+        // Turkish "Gidiş kalkış / varış saatleri" filter
+        strategies.put("turkish-filter", (start, end, remaining) -> {
+            WaitUtils.waitForElementToBeVisible(driver, turkishTimeFilterLocator, capTimeout(remaining, 3));
+            click(turkishTimeFilterLocator);
+            return applyTurkishTimeFilter(start, end);
+        });
+        
+        // Generic time filter section
+        strategies.put("generic-filter", (start, end, remaining) -> {
+            WaitUtils.waitForElementToBeVisible(driver, timeFilterLocator, capTimeout(remaining, 3));
+            click(timeFilterLocator);
+            return applyTimeFilterInputs(start, end);
+        });
+        
+        // Filter sidebar or panel
+        strategies.put("filter-panel", (start, end, remaining) -> {
+            WebElement filterPanel = findElement(anyFilterLocator);
+            List<WebElement> timeElements = filterPanel.findElements(anyTimeLocator);
+            return !timeElements.isEmpty() && applyTimeFilterViaPanel(timeElements, start, end);
+        });
+        
+        // Any time-related controls
+        strategies.put("time-controls", (start, end, remaining) -> findAndApplyTimeControls(start, end));
+        strategies.put("javascript", (start, end, remaining) -> applyTimeFilterViaJavaScript(start, end));
+        
+        return strategies;
+    }
+    
+    private boolean isOgleWindow(String startTime, String endTime) {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("H:mm");
+        boolean matches = LocalTime.parse(startTime, format).equals(OGLE_WINDOW_START)
+                && LocalTime.parse(endTime, format).equals(OGLE_WINDOW_END);
+        if (!matches) {
+            logger.debug("Skipping 'Öğle' button: its {}-{} window differs from {}-{}", OGLE_WINDOW_START, OGLE_WINDOW_END, startTime, endTime);
+        }
+        return matches;
+    }
+    
+    /**
+     * Caps a wait by the remaining time filter budget; unchanged outside a filter cascade
+     */
+    private Duration withinTimeFilterBudget(Duration wait) {
+        if (timeFilterDeadline == Long.MAX_VALUE) {
+            return wait;
+        }
+        Duration remaining = Duration.ofNanos(Math.max(0, timeFilterDeadline - System.nanoTime()));
+        return remaining.compareTo(wait) < 0 ? remaining : wait;
+    }
+    
+    /**
+     * Pauses within the time filter budget, e.g. for a scroll animation
+     */
+    private void pauseWithinTimeFilterBudget(Duration pause) {
+        try {
+            WaitUtils.fluentWait(driver, webDriver -> false, withinTimeFilterBudget(pause), Duration.ofMillis(100));
+        } catch (Exception e) {
+            // Expected: the condition never holds, the wait is the pause
+        }
+    }
+    
+    /**
+     * Clears whatever filter is applied, quietly, so the next one starts from an unfiltered list
+     */
+    private void resetTimeFilter() {
+        try {
+            By clearLocator = By.cssSelector("[data-testid='clear-filters'], .clear-filters, .reset-filters, .filter-clear");
+            List<WebElement> clearButtons = driver.findElements(clearLocator);
+            if (!clearButtons.isEmpty() && clearButtons.get(0).isDisplayed()) {
+                click(clearButtons.get(0));
+                waitForFilterResults();
+                logger.debug("Cleared applied filters");
+            }
+        } catch (Exception e) {
+            logger.debug("Could not clear applied filters: {}", e.getMessage());
+        }
+    }
+    
+    private static Duration capTimeout(Duration remaining, int maxSeconds) {
+        Duration max = Duration.ofSeconds(maxSeconds);
+        return remaining.compareTo(max) < 0 ? remaining : max;
+    }
+    
+    /**
+     * Fingerprints the deployed site version from a version meta tag or, failing that,
+     * from the (content-hashed) script bundle names
+     * @return Host name plus version fingerprint
+     */
+    private String getSiteVersion() {
+        if (siteVersion == null) {
+            String host = "unknown";
+            String fingerprint = "unknown";
+            try {
+                host = java.net.URI.create(driver.getCurrentUrl()).getHost();
+                Object version = ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+                    "var meta = document.querySelector(\"meta[name='version'], meta[name='app-version'], meta[name='build-version']\");" +
+                    "if (meta && meta.content) { return meta.content; }" +
+                    "return Array.prototype.map.call(document.querySelectorAll('script[src]'), function(s) {" +
+                    "  return s.src.split('?')[0].split('/').pop();" +
+                    "}).sort().join(',');");
+                if (version != null && !version.toString().isEmpty()) {
+                    fingerprint = Integer.toHexString(version.toString().hashCode());
+                }
+            } catch (Exception e) {
+                logger.debug("Could not determine site version: {}", e.getMessage());
+            }
+            siteVersion = host + "-" + fingerprint;
+            logger.debug("Site version fingerprint: {}", siteVersion);
+        }
+        return siteVersion;
+    }
+    
     /**
      * Enhanced validation that checks ALL displayed flights for time range compliance
      * Provides detailed analysis and reporting - COMPREHENSIVE APPROACH
@@ -402,21 +538,186 @@ public class FlightListPage extends BasePage {
         }
     }
     
+    /**
+     * Captures the departure times of all flights in the result list, scrolling through it once.
+     * Used as the unfiltered baseline for multi-range validation.
+     * @return Departure times in display order
+     */
+    public List<LocalTime> captureDepartureTimes() {
+        List<LocalTime> departureTimes = new ArrayList<>();
+        harvestFlights(card -> {
+            if (card.getDepartureTime() != null) {
+                departureTimes.add(parseFlightTime(card.getDepartureTime()));
+            }
+        });
+        logger.info("Captured {} departure times", departureTimes.size());
+        return departureTimes;
+    }
+    
+    /**
+     * Scrolls through the complete result list and streams every flight card to the consumer once.
+     * Only newly rendered cards are read on each scroll step.
+     * @param consumer Receives the cards on a worker thread, in list order
+     * @return Number of distinct flight cards harvested
+     */
+    public int harvestFlights(Consumer<FlightCard> consumer) {
+        String cardSelector = resolveFlightCardSelector();
+        if (cardSelector == null) {
+            logger.warn("❌ No flight card selector matched, nothing to harvest");
+            return 0;
+        }
+        return new FlightResultHarvester(driver, cardSelector).harvest(consumer);
+    }
+    
+    /**
+     * Validates departure times over the complete, scrolled result set instead of the rendered part
+     * @param startTime Start time in HH:mm format (e.g., "10:00")
+     * @param endTime End time in HH:mm format (e.g., "18:00")
+     * @return true if at least one flight was checked and all flights are within range
+     */
+    public boolean validateCompleteResultSetInTimeRange(String startTime, String endTime) {
+        try {
+            logger.info("Validating complete result set against time range: {} - {}", startTime, endTime);
+            
+            int[] counts = new int[3]; // [valid, invalid, unparseable]
+            List<String> invalidFlightTimes = new ArrayList<>();
+            int harvested = harvestFlights(card -> {
+                if (card.getDepartureTime() == null) {
+                    counts[2]++;
+                } else if (isTimeInRange(card.getDepartureTime(), startTime, endTime)) {
+                    counts[0]++;
+                } else {
+                    counts[1]++;
+                    invalidFlightTimes.add(card.getDepartureTime());
+                }
+            });
+            
+            logger.info("📈 Complete result set: {} flights, {} valid, {} invalid, {} unparseable",
+                       harvested, counts[0], counts[1], counts[2]);
+            
+            boolean allValid = counts[1] == 0 && counts[0] > 0;
+            if (allValid) {
+                ReportUtils.logPass(String.format("All %d harvested flights are within %s - %s", counts[0], startTime, endTime));
+            } else {
+                logger.error("💥 Flights outside {}-{} range: {}", startTime, endTime, invalidFlightTimes);
+                ReportUtils.logFail(String.format("%d of %d harvested flights are outside %s - %s: %s",
+                                                  counts[1], harvested, startTime, endTime, invalidFlightTimes));
+                ScreenshotUtils.takeScreenshot(driver, "harvested_flight_times_invalid");
+            }
+            return allValid;
+            
+        } catch (Exception e) {
+            logger.error("Error during complete result set validation", e);
+            ReportUtils.logFail("Complete result set validation failed: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Finds the first flight card selector that matches real flight content
+     * @return CSS selector, or null if none matches
+     */
+    private String resolveFlightCardSelector() {
+        for (String selector : FLIGHT_CARD_SELECTORS) {
+            try {
+                if (driver.findElements(By.cssSelector(selector)).stream().anyMatch(this::isValidFlightElement)) {
+                    return selector;
+                }
+            } catch (Exception e) {
+                logger.debug("Selector {} failed: {}", selector, e.getMessage());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Computes the flights a time filter is expected to keep, without touching the page
+     * @param departureTimes Baseline departure times
+     * @param startTime Range start time in HH:mm format
+     * @param endTime Range end time in HH:mm format
+     * @return Sorted departure times within the range (bounds inclusive)
+     */
+    public static List<LocalTime> selectTimesInRange(List<LocalTime> departureTimes, String startTime, String endTime) {
+        LocalTime minTime = LocalTime.parse(startTime, DateTimeFormatter.ofPattern("H:mm"));
+        LocalTime maxTime = LocalTime.parse(endTime, DateTimeFormatter.ofPattern("H:mm"));
+        return departureTimes.stream()
+            .filter(time -> !time.isBefore(minTime) && !time.isAfter(maxTime))
+            .sorted()
+            .collect(java.util.stream.Collectors.toList());
+    }
+    
+    /**
+     * Applies the departure time filter unless the same range is already applied and verified.
+     * A different verified range is cleared first, so filters never stack.
+     * @param startTime Start time in HH:mm format
+     * @param endTime End time in HH:mm format
+     * @return FlightListPage for method chaining
+     */
+    public FlightListPage applyDepartureTimeFilterIfNeeded(String startTime, String endTime) {
+        String requestedFilter = startTime + "-" + endTime;
+        if (requestedFilter.equals(appliedTimeFilter)) {
+            logger.info("Departure time filter {} already applied, skipping", requestedFilter);
+            return this;
+        }
+        if (appliedTimeFilter != null) {
+            logger.info("Clearing departure time filter {} before applying {}", appliedTimeFilter, requestedFilter);
+            resetTimeFilter();
+            appliedTimeFilter = null;
+        }
+        return applyDepartureTimeFilter(startTime, endTime);
+    }
+    
+    /**
+     * Applies the time filter (if needed) and compares the site's filtered list with the
+     * subset of the unfiltered baseline that falls into the range
+     * @param baselineTimes Departure times captured before any filter was applied
+     * @param startTime Range start time in HH:mm format
+     * @param endTime Range end time in HH:mm format
+     * @return true if the filtered list contains exactly the expected flights
+     */
+    public boolean validateFilterAgainstBaseline(List<LocalTime> baselineTimes, String startTime, String endTime) {
+        try {
+            logger.info("Validating filter {} - {} against baseline of {} flights", startTime, endTime, baselineTimes.size());
+            
+            applyDepartureTimeFilterIfNeeded(startTime, endTime);
+            
+            List<LocalTime> expected = selectTimesInRange(baselineTimes, startTime, endTime);
+            List<LocalTime> actual = new ArrayList<>(captureDepartureTimes());
+            actual.sort(null);
+            
+            // Multiset difference in both directions
+            List<LocalTime> unexpected = new ArrayList<>(actual);
+            expected.forEach(unexpected::remove);
+            List<LocalTime> missing = new ArrayList<>(expected);
+            actual.forEach(missing::remove);
+            
+            boolean matches = unexpected.isEmpty() && missing.isEmpty();
+            
+            if (matches) {
+                logger.info("Filter {} - {} shows exactly the {} expected flights", startTime, endTime, expected.size());
+                ReportUtils.logPass(String.format("Filter %s - %s matches baseline: %d flights", startTime, endTime, expected.size()));
+            } else {
+                logger.error("Filter {} - {} mismatch - unexpected: {}, missing: {}", startTime, endTime, unexpected, missing);
+                ReportUtils.logFail(String.format("Filter %s - %s mismatch - unexpected: %s, missing: %s",
+                                                  startTime, endTime, unexpected, missing));
+                ScreenshotUtils.takeScreenshot(driver, "filter_baseline_mismatch");
+            }
+            
+            return matches;
+            
+        } catch (Exception e) {
+            logger.error("Failed to validate filter {} - {} against baseline", startTime, endTime, e);
+            ReportUtils.logFail("Failed to validate filter against baseline: " + e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Gets all flight elements using multiple detection strategies
      * @return List of flight elements found on the page
      */
     private List<WebElement> getAllFlightElements() {
-        List<String> flightSelectors = List.of(
-            ".flight-item", ".flight-card", ".search-result", ".result-item",
-            "[class*='flight']", "[class*='result']", "[class*='item']",
-            ".list-item", ".flight-option", ".flight-listing",
-            "div[class*='flight']", "div[class*='result']", "li[class*='flight']",
-            ".booking-item", ".ticket-item", "[data-flight]",
-            ".flight-row", ".search-item", ".price-item"
-        );
-        
-        for (String selector : flightSelectors) {
+        for (String selector : FLIGHT_CARD_SELECTORS) {
             try {
                 List<WebElement> flights = driver.findElements(By.cssSelector(selector));
                 if (!flights.isEmpty()) {
@@ -470,7 +771,7 @@ public class FlightListPage extends BasePage {
             try {
                 WebElement timeElement = flightElement.findElement(By.cssSelector(selector));
                 String timeText = timeElement.getText().trim();
-                String extractedTime = extractTimePattern(timeText);
+                String extractedTime = FlightCard.parseDepartureTime(timeText);
                 if (extractedTime != null) {
                     return extractedTime;
                 }
@@ -482,7 +783,7 @@ public class FlightListPage extends BasePage {
         // Strategy 2: Extract from full flight text using regex
         try {
             String fullText = flightElement.getText();
-            String extractedTime = extractTimePattern(fullText);
+            String extractedTime = FlightCard.parseDepartureTime(fullText);
             if (extractedTime != null) {
                 return extractedTime;
             }
@@ -493,47 +794,6 @@ public class FlightListPage extends BasePage {
         return null;
     }
     
-    /**
-     * Extracts time pattern (HH:MM) from text using regex
-     */
-    private String extractTimePattern(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return null;
-        }
-        
-        // Look for time patterns like "15:55", "09:30", "23:45"
-        java.util.regex.Pattern timePattern = java.util.regex.Pattern.compile("\\b(\\d{1,2}:\\d{2})\\b");
-        java.util.regex.Matcher matcher = timePattern.matcher(text);
-        
-        if (matcher.find()) {
-            String time = matcher.group(1);
-            // Validate the time format
-            if (isValidTimeFormat(time)) {
-                return time;
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Validates if a time string is in correct HH:MM format and represents a valid time
-     */
-    private boolean isValidTimeFormat(String time) {
-        if (time == null || !time.matches("\\d{1,2}:\\d{2}")) {
-            return false;
-        }
-        
-        String[] parts = time.split(":");
-        try {
-            int hours = Integer.parseInt(parts[0]);
-            int minutes = Integer.parseInt(parts[1]);
-            return hours >= 0 && hours <= 23 && minutes >= 0 && minutes <= 59;
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
-    
     /**
      * Checks if a given time is within the specified range
      * @param time Time to check (e.g., "15:30")
@@ -730,6 +990,7 @@ public class FlightListPage extends BasePage {
             }
             
             waitForFilterResults();
+            appliedTimeFilter = null;
             
             logger.info("All filters cleared");
             ReportUtils.logInfo("All filters cleared successfully");
@@ -846,8 +1107,7 @@ public class FlightListPage extends BasePage {
                     for (WebElement timeElement : timeElements) {
                         String timeText = timeElement.getText().trim();
                         if (!timeText.isEmpty()) {
-                            // Enhanced time pattern matching for Turkish formats
-                            String extractedTime = extractTimeFromTurkishText(timeText);
+                            String extractedTime = FlightCard.parseDepartureTime(timeText);
                             if (extractedTime != null) {
                                 return extractedTime;
                             }
@@ -860,11 +1120,8 @@ public class FlightListPage extends BasePage {
             
             // Last resort - scan all text in flight element for time patterns
             try {
-                String allText = flightElement.getText();
-                java.util.regex.Pattern timePattern = java.util.regex.Pattern.compile("\\b\\d{1,2}[:.]\\d{2}\\b");
-                java.util.regex.Matcher matcher = timePattern.matcher(allText);
-                if (matcher.find()) {
-                    String foundTime = matcher.group().replace(".", ":");
+                String foundTime = FlightCard.parseDepartureTime(flightElement.getText());
+                if (foundTime != null) {
                     logger.debug("Extracted time from text content: {}", foundTime);
                     return foundTime;
                 }
@@ -918,27 +1175,17 @@ public class FlightListPage extends BasePage {
     }
 
     /**
-     * Parses flight time string to LocalTime
-     * @param timeString Time string (e.g., "14:30", "2:30 PM")
+     * Parses flight time string to LocalTime, with the same rules as {@link FlightCard#parseDepartureTime}
+     * @param timeString Time string (e.g., "14:30", "9.45")
      * @return LocalTime object
      */
     private LocalTime parseFlightTime(String timeString) {
-        try {
-            // Clean the time string
-            String cleanTime = timeString.replaceAll("[^0-9:]", "").trim();
-            
-            // Handle 24-hour format
-            if (cleanTime.matches("\\d{1,2}:\\d{2}")) {
-                return LocalTime.parse(cleanTime, DateTimeFormatter.ofPattern("H:mm"));
-            }
-            
-            // Handle other formats if needed
-            throw new IllegalArgumentException("Unsupported time format: " + timeString);
-            
-        } catch (Exception e) {
-            logger.error("Failed to parse time: {}", timeString, e);
-            throw new RuntimeException("Failed to parse time: " + timeString, e);
+        String time = FlightCard.parseDepartureTime(timeString);
+        if (time == null) {
+            logger.error("Failed to parse time: {}", timeString);
+            throw new RuntimeException("Failed to parse time: " + timeString);
         }
+        return LocalTime.parse(time, DateTimeFormatter.ofPattern("HH:mm"));
     }
 
     /**
@@ -1002,17 +1249,18 @@ public class FlightListPage extends BasePage {
     private void waitForFilterResults() {
         try {
             // Wait for any loading indicators to disappear
+            Duration timeout = withinTimeFilterBudget(Duration.ofSeconds(ConfigManager.getDefaultTimeout()));
             if (isElementPresent(loadingLocator)) {
-                WaitUtils.waitForElementToDisappear(driver, loadingLocator);
+                WaitUtils.waitForElementToDisappear(driver, loadingLocator, timeout);
             }
             
             // Wait for flight list to be stable (re-appear after filtering)
-            WaitUtils.waitForElementToBeVisible(driver, flightListLocator);
+            WaitUtils.waitForElementToBeVisible(driver, flightListLocator, withinTimeFilterBudget(timeout));
             
             // Additional wait for any dynamic content updates
             WaitUtils.fluentWait(driver, 
                 (webDriver) -> !isElementPresent(By.cssSelector(".updating, .refreshing, .filter-loading")),
-                Duration.ofSeconds(5), 
+                withinTimeFilterBudget(Duration.ofSeconds(5)), 
                 Duration.ofMillis(200));
             
             logger.debug("Filter results stabilized");
@@ -1211,241 +1459,116 @@ public class FlightListPage extends BasePage {
     }
     
     /**
-     * Enhanced time extraction for Turkish text formats
+     * Opens the ctx-filter-departure-return-time panel unless it is already open.
+     * Tries the expand icon, the header div and the header text in that order.
+     * @param timeout Maximum wait for each panel toggle to become visible
+     * @return true if the panel is open
      */
-    private String extractTimeFromTurkishText(String text) {
-        try {
-            // Pattern 1: Standard HH:MM or H:MM format
-            java.util.regex.Pattern timePattern1 = java.util.regex.Pattern.compile("\\b(\\d{1,2})[:.]([0-5]\\d)\\b");
-            java.util.regex.Matcher matcher1 = timePattern1.matcher(text);
-            if (matcher1.find()) {
-                String hour = matcher1.group(1);
-                String minute = matcher1.group(2);
-                
-                // Ensure valid time format
-                int h = Integer.parseInt(hour);
-                int m = Integer.parseInt(minute);
-                
-                if (h >= 0 && h <= 23 && m >= 0 && m <= 59) {
-                    return String.format("%02d:%02d", h, m);
-                }
-            }
-            
-            // Pattern 2: Turkish format with descriptive text (e.g., "Kalkış: 14:30", "Saat 09:45")
-            java.util.regex.Pattern timePattern2 = java.util.regex.Pattern.compile("(?:kalkış|saat|time|departure)\\s*:?\\s*(\\d{1,2})[:.]([0-5]\\d)", java.util.regex.Pattern.CASE_INSENSITIVE);
-            java.util.regex.Matcher matcher2 = timePattern2.matcher(text);
-            if (matcher2.find()) {
-                String hour = matcher2.group(1);
-                String minute = matcher2.group(2);
-                
-                int h = Integer.parseInt(hour);
-                int m = Integer.parseInt(minute);
-                
-                if (h >= 0 && h <= 23 && m >= 0 && m <= 59) {
-                    return String.format("%02d:%02d", h, m);
-                }
-            }
-            
-            // Pattern 3: Look for any valid time pattern in the text
-            java.util.regex.Pattern timePattern3 = java.util.regex.Pattern.compile("(\\d{1,2})[:.]([0-5]\\d)");
-            java.util.regex.Matcher matcher3 = timePattern3.matcher(text);
-            while (matcher3.find()) {
-                String hour = matcher3.group(1);
-                String minute = matcher3.group(2);
+    private boolean openCtxTimeFilterPanel(Duration timeout) {
+        if (verifyFilterPanelIsOpen()) {
+            return true;
+        }
+        
+        for (By toggleLocator : List.of(ctxFilterDepartureReturnTimeLocator, ctxFilterHeaderLocator, ctxFilterByTextLocator)) {
+            try {
+                // SCROLL TO FILTER FIRST for better visibility
+                scrollToTimeFilter();
+                WaitUtils.waitForElementToBeVisible(driver, toggleLocator, withinTimeFilterBudget(timeout));
+                click(toggleLocator);
                 
-                int h = Integer.parseInt(hour);
-                int m = Integer.parseInt(minute);
+                // SCROLL TO SLIDERS after panel opens
+                scrollToSliders();
                 
-                // Check if it's a valid time (not date, price, etc.)
-                if (h >= 0 && h <= 23 && m >= 0 && m <= 59) {
-                    // Additional validation: common flight times are between 00:00-23:59
-                    // and typically in 5-minute intervals for commercial flights
-                    return String.format("%02d:%02d", h, m);
+                if (ensureCtxPanelOpen(toggleLocator)) {
+                    // Wait for panel animation using explicit wait
+                    WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofSeconds(3)));
+                    logger.info("Time filter panel opened via {}", toggleLocator);
+                    return true;
                 }
+            } catch (Exception e) {
+                logger.debug("Could not open time filter panel via {}: {}", toggleLocator, e.getMessage());
             }
-            
-            return null;
-            
-        } catch (Exception e) {
-            logger.debug("Failed to extract time from Turkish text: {}", text);
-            return null;
         }
+        return false;
     }
     
     /**
-     * Enhanced method to handle ctx-filter-departure-return-time element with slider control
-     * @param startTime Start time (e.g., "10:00")
-     * @param endTime End time (e.g., "18:00")
-     * @return true if filter was applied successfully
+     * Verifies the filter panel opened after a toggle click, re-clicking with
+     * JavaScript and Actions if the standard click did not take effect
      */
-    private boolean applyCtxTimeFilter(String startTime, String endTime) {
-        try {
-            logger.info("Applying ctx-filter time filter: {} - {}", startTime, endTime);
-            
-            // STEP 1: First verify the filter panel actually opened
-            boolean filterPanelOpen = verifyFilterPanelIsOpen();
-            if (!filterPanelOpen) {
-                logger.warn("Filter panel is not open! Attempting to click header again...");
-                // Try clicking the header again with multiple approaches
-                for (int i = 0; i < 3; i++) {
-                    try {
-                        // Try different clicking approaches
-                        if (i == 0) {
-                            click(ctxFilterDepartureReturnTimeLocator); // Standard click
-                        } else if (i == 1) {
-                            // JavaScript click
-                            ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
-                                "arguments[0].click();", 
-                                findElement(ctxFilterDepartureReturnTimeLocator));
-                        } else {
-                            // Click via coordinates
-                            WebElement header = findElement(ctxFilterDepartureReturnTimeLocator);
-                            org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
-                            actions.moveToElement(header).click().perform();
-                        }
-                        
-                        // Wait and check if panel opened
-                        WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofMillis(1000));
-                        filterPanelOpen = verifyFilterPanelIsOpen();
-                        if (filterPanelOpen) {
-                            logger.info("Filter panel opened successfully on attempt {}", i + 1);
-                            break;
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Click attempt {} failed: {}", i + 1, e.getMessage());
-                    }
-                }
-                
-                if (!filterPanelOpen) {
-                    logger.error("Could not open filter panel after multiple attempts");
-                    return false;
-                }
-            }
-            
-            // STEP 2: Now that panel is open, look for UI controls
-            logger.info("Filter panel is open, searching for time controls...");
-            
-            // Additional wait for panel animation to complete
-            try {
-                // Wait for panel animation using explicit wait
-                WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(3));
-                logger.debug("Panel opening animation wait completed");
-            } catch (Exception e) {
-                logger.debug("Panel animation wait completed: {}", e.getMessage());
-            }
-            
-            boolean success = false;
-            
-            // Strategy 1: "Öğle" button approach (HIGHEST PRIORITY - SIMPLIFIED)
-            try {
-                logger.info("Trying Öğle button approach for time filtering...");
-                success = clickOgleButtonWithFallbacks();
-                if (success) {
-                    logger.info("Applied time filter using Öğle button - much simpler than sliders!");
-                    // Wait for filter to be applied using explicit wait
-                    try {
-                        // Wait for flight list to refresh after filter application
-                        WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(5));
-                        logger.info("Filter application wait completed - proceeding with validation");
-                    } catch (Exception e) {
-                        logger.debug("Filter wait completed with minor issues: {}", e.getMessage());
-                    }
-                    
-                    if (verifyFilterApplied("10:00", "17:00")) { // Öğle is typically 10:00-17:00
-                        return true;
-                    } else {
-                        logger.warn("Öğle button clicked but filter not fully applied - continuing validation");
-                        return true; // Still consider successful as button was clicked
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("Öğle button approach failed: {}", e.getMessage());
-            }
-            
-            // Strategy 2: RC-Slider specific approach (FALLBACK)
+    private boolean ensureCtxPanelOpen(By toggleLocator) {
+        if (verifyFilterPanelIsOpen()) {
+            return true;
+        }
+        
+        logger.warn("Filter panel is not open! Attempting to click header again...");
+        for (int i = 0; i < 3; i++) {
             try {
-                success = applyRCSliderTimeFilter(startTime, endTime);
-                if (success) {
-                    logger.info("Applied time filter using RC-Slider (fallback approach)");
-                    // Wait for filter to be applied using explicit wait
-                    try {
-                        // Wait for flight list to refresh after filter application
-                        WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(5));
-                        logger.info("RC-Slider filter application wait completed");
-                    } catch (Exception e) {
-                        logger.debug("RC-Slider filter wait completed with minor issues: {}", e.getMessage());
-                    }
-                    
-                    if (verifyFilterApplied(startTime, endTime)) {
-                        return true;
-                    } else {
-                        logger.warn("RC-Slider manipulation succeeded but filter not applied - trying other methods");
-                    }
+                // Try different clicking approaches
+                if (i == 0) {
+                    click(toggleLocator); // Standard click
+                } else if (i == 1) {
+                    // JavaScript click
+                    ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+                        "arguments[0].click();", 
+                        findElement(toggleLocator));
+                } else {
+                    // Click via coordinates
+                    WebElement header = findElement(toggleLocator);
+                    org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
+                    actions.moveToElement(header).click().perform();
                 }
-            } catch (Exception e) {
-                logger.debug("RC-Slider approach failed: {}", e.getMessage());
-            }
-            
-            // Strategy 2: Enhanced JavaScript approach with RC-Slider detection
-            try {
-                success = applyTimeFilterViaEnhancedJavaScript(startTime, endTime);
-                if (success) {
-                    logger.info("Applied time filter using enhanced JavaScript");
-                    if (verifyFilterApplied(startTime, endTime)) {
-                        return true;
-                    }
+                
+                // Wait and check if panel opened
+                WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofMillis(1000)));
+                if (verifyFilterPanelIsOpen()) {
+                    logger.info("Filter panel opened successfully on attempt {}", i + 1);
+                    return true;
                 }
             } catch (Exception e) {
-                logger.debug("Enhanced JavaScript approach failed: {}", e.getMessage());
+                logger.debug("Click attempt {} failed: {}", i + 1, e.getMessage());
             }
-            
-            // Strategy 3: Look for range sliders (fallback)
-            try {
-                List<WebElement> sliders = driver.findElements(By.cssSelector("input[type='range'], .slider, .range-slider, [class*='slider']"));
-                logger.info("Found {} potential sliders", sliders.size());
-                if (sliders.size() >= 2) {
-                    // Assume first slider is start time, second is end time
-                    WebElement startSlider = sliders.get(0);
-                    WebElement endSlider = sliders.get(1);
-                    
-                    success = setSliderValues(startSlider, endSlider, startTime, endTime);
-                    if (success) {
-                        logger.info("Applied time filter using dual sliders");
-                        if (verifyFilterApplied(startTime, endTime)) {
-                            return true;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("Dual slider approach failed: {}", e.getMessage());
+        }
+        
+        logger.error("Could not open filter panel after multiple attempts");
+        return false;
+    }
+    
+    /**
+     * Applies the time range through two separate range sliders inside the open panel
+     */
+    private boolean applyDualSliderTimeFilter(String startTime, String endTime) {
+        try {
+            List<WebElement> sliders = driver.findElements(By.cssSelector("input[type='range'], .slider, .range-slider, [class*='slider']"));
+            logger.info("Found {} potential sliders", sliders.size());
+            if (sliders.size() >= 2) {
+                // Assume first slider is start time, second is end time
+                return setSliderValues(sliders.get(0), sliders.get(1), startTime, endTime);
             }
-            
-            // Strategy 4: Look for time input fields
-            try {
-                List<WebElement> timeInputs = driver.findElements(By.cssSelector("input[type='time'], input[placeholder*='saat'], input[placeholder*='time']"));
-                logger.info("Found {} time inputs", timeInputs.size());
-                if (timeInputs.size() >= 2) {
-                    timeInputs.get(0).clear();
-                    timeInputs.get(0).sendKeys(startTime);
-                    timeInputs.get(1).clear();
-                    timeInputs.get(1).sendKeys(endTime);
-                    success = true;
-                    logger.info("Applied time filter using time inputs");
-                    if (verifyFilterApplied(startTime, endTime)) {
-                        return true;
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("Time input approach failed: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.debug("Dual slider approach failed: {}", e.getMessage());
+        }
+        return false;
+    }
+    
+    /**
+     * Applies the time range through time input fields inside the open panel
+     */
+    private boolean applyPanelTimeInputs(String startTime, String endTime) {
+        try {
+            List<WebElement> timeInputs = driver.findElements(By.cssSelector("input[type='time'], input[placeholder*='saat'], input[placeholder*='time']"));
+            logger.info("Found {} time inputs", timeInputs.size());
+            if (timeInputs.size() >= 2) {
+                timeInputs.get(0).clear();
+                timeInputs.get(0).sendKeys(startTime);
+                timeInputs.get(1).clear();
+                timeInputs.get(1).sendKeys(endTime);
+                return true;
             }
-            
-            logger.error("All time filter strategies failed");
-            return false;
-            
         } catch (Exception e) {
-            logger.error("Failed to apply ctx time filter", e);
-            return false;
+            logger.debug("Time input approach failed: {}", e.getMessage());
         }
+        return false;
     }
     
     /**
@@ -1474,7 +1597,7 @@ public class FlightListPage extends BasePage {
                 endSlider, endPos);
             
             // Wait for UI to update using explicit wait
-            WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofMillis(500));
+            WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofMillis(500)));
             return true;
             
         } catch (Exception e) {
@@ -1590,7 +1713,7 @@ public class FlightListPage extends BasePage {
                     "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", 
                     timeFilterElement);
                 logger.info("Successfully scrolled to time filter element");
-                WaitUtils.waitForSeconds(driver, 2); // Wait for smooth scroll animation
+                pauseWithinTimeFilterBudget(Duration.ofSeconds(2)); // Wait for smooth scroll animation
                 return;
             } catch (Exception e) {
                 logger.debug("Could not scroll to specific time filter element: {}", e.getMessage());
@@ -1611,7 +1734,7 @@ public class FlightListPage extends BasePage {
                                 "arguments[0].scrollTop = arguments[0].scrollHeight / 2;", 
                                 filterPanel);
                             logger.info("Scrolled within filter panel using selector: {}", selector);
-                            WaitUtils.waitForSeconds(driver, 1);
+                            pauseWithinTimeFilterBudget(Duration.ofSeconds(1));
                             return;
                         }
                     } catch (Exception ignored) {
@@ -1627,7 +1750,7 @@ public class FlightListPage extends BasePage {
                 ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
                     "window.scrollBy(0, 300);"); // Scroll down 300px
                 logger.info("Applied general page scroll down");
-                WaitUtils.waitForSeconds(driver, 1);
+                pauseWithinTimeFilterBudget(Duration.ofSeconds(1));
             } catch (Exception e) {
                 logger.debug("General page scroll failed: {}", e.getMessage());
             }
@@ -1646,7 +1769,7 @@ public class FlightListPage extends BasePage {
             logger.info("Looking for 'Öğle' button after time filter panel opens...");
             
             // Wait for button to be visible and clickable
-            WaitUtils.waitForElementToBeVisible(driver, ogleButtonLocator, Duration.ofSeconds(10));
+            WaitUtils.waitForElementToBeVisible(driver, ogleButtonLocator, withinTimeFilterBudget(Duration.ofSeconds(10)));
             
             // Click the Öğle button
             click(ogleButtonLocator);
@@ -1654,7 +1777,7 @@ public class FlightListPage extends BasePage {
             
             // Wait for filter to be applied using explicit wait
             try {
-                WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(2));
+                WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofSeconds(2)));
                 logger.debug("Öğle button click processing completed");
             } catch (Exception e) {
                 logger.debug("Öğle button wait completed: {}", e.getMessage());
@@ -1706,12 +1829,12 @@ public class FlightListPage extends BasePage {
         for (String selector : alternativeSelectors) {
             try {
                 By locator = By.xpath(selector);
-                WaitUtils.waitForElementToBeVisible(driver, locator, Duration.ofSeconds(5));
+                WaitUtils.waitForElementToBeVisible(driver, locator, withinTimeFilterBudget(Duration.ofSeconds(5)));
                 click(locator);
                 logger.info("Successfully clicked Öğle button using alternative selector: {}", selector);
                 // Wait for alternative Öğle button click to process
                 try {
-                    WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(2));
+                    WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofSeconds(2)));
                 } catch (Exception waitEx) {
                     logger.debug("Alternative Öğle button wait completed: {}", waitEx.getMessage());
                 }
@@ -1747,7 +1870,7 @@ public class FlightListPage extends BasePage {
                             "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", 
                             slider);
                         logger.info("Scrolled to slider element using selector: {}", selector);
-                        WaitUtils.waitForSeconds(driver, 1);
+                        pauseWithinTimeFilterBudget(Duration.ofSeconds(1));
                         return;
                     }
                 } catch (Exception ignored) {
@@ -1855,7 +1978,7 @@ public class FlightListPage extends BasePage {
     private boolean verifyFilterApplied(String startTime, String endTime) {
         try {
             // Wait a moment for UI to update
-            WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofMillis(1500));
+            WaitUtils.waitForPageToBeFullyLoaded(driver, withinTimeFilterBudget(Duration.ofMillis(1500)));
             
             // Strategy 1: Check if flight list has changed (fewer results)
             List<WebElement> currentFlights = getFlightElements();
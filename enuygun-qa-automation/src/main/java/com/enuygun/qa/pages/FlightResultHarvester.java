@@ -0,0 +1,145 @@
+package com.enuygun.qa.pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.models.FlightCard;
+import com.enuygun.qa.utils.WaitUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Scrolls through an infinitely loading flight list and streams each card exactly once.
+ *
+ * Features:
+ * - Newly rendered cards are collected in one script call per scroll step; the set of
+ *   already seen card keys stays in the browser, so only new content crosses the wire
+ * - Cards are handed to the consumer through a bounded queue on a separate thread,
+ *   the scrolling side blocks when the consumer falls behind
+ * - Harvesting stops once consecutive scroll steps render no new cards
+ */
+class FlightResultHarvester {
+    private static final Logger logger = LoggerFactory.getLogger(FlightResultHarvester.class);
+    private static final FlightCard END_OF_STREAM = new FlightCard("", null, "");
+
+    private static final String COLLECT_NEW_CARDS_SCRIPT =
+        "var selector = arguments[0];" +
+        "if (arguments[1] || !window.__flightHarvestSeen) { window.__flightHarvestSeen = {}; }" +
+        "var seen = window.__flightHarvestSeen;" +
+        "var cards = [];" +
+        "document.querySelectorAll(selector).forEach(function(el) {" +
+        "  var text = (el.innerText || '').trim();" +
+        "  if (!/\\d{1,2}:\\d{2}/.test(text)) { return; }" +
+        "  var key = el.getAttribute('data-flight-id') || el.getAttribute('data-id') || el.id || text.replace(/\\s+/g, ' ');" +
+        "  if (seen[key]) { return; }" +
+        "  seen[key] = true;" +
+        "  cards.push({key: key, text: text});" +
+        "});" +
+        "return cards;";
+
+    private static final String SCROLL_STEP_SCRIPT =
+        "window.scrollBy(0, Math.floor(window.innerHeight * 0.9));" +
+        "return (window.innerHeight + window.scrollY) >= document.documentElement.scrollHeight - 2;";
+
+    private final WebDriver driver;
+    private final String cardSelector;
+    private final int queueCapacity = ConfigManager.getIntProperty("harvest.queue.capacity", 64);
+    private final int maxIdleSteps = ConfigManager.getIntProperty("harvest.idle.steps", 2);
+    private final int maxScrollSteps = ConfigManager.getIntProperty("harvest.max.steps", 200);
+
+    FlightResultHarvester(WebDriver driver, String cardSelector) {
+        this.driver = driver;
+        this.cardSelector = cardSelector;
+    }
+
+    /**
+     * Scrolls from the top of the list to the end and passes every card to the consumer once
+     * @param consumer Validator or collector receiving the cards, called on a worker thread
+     * @return Number of distinct cards harvested
+     */
+    int harvest(Consumer<FlightCard> consumer) {
+        BlockingQueue<FlightCard> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flight-harvest-consumer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Future<?> consumerResult = worker.submit(() -> {
+            try {
+                for (FlightCard card = queue.take(); card != END_OF_STREAM; card = queue.take()) {
+                    consumer.accept(card);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        int harvested = 0;
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript("window.scrollTo(0, 0);");
+
+            int idleSteps = 0;
+            for (int step = 0; step < maxScrollSteps && idleSteps < maxIdleSteps; step++) {
+                List<Map<String, Object>> newCards = collectNewCards(js, step == 0);
+                for (Map<String, Object> card : newCards) {
+                    String text = String.valueOf(card.get("text"));
+                    enqueue(queue, FlightCard.fromText(String.valueOf(card.get("key")), text), consumerResult);
+                }
+                harvested += newCards.size();
+
+                boolean atBottom = Boolean.TRUE.equals(js.executeScript(SCROLL_STEP_SCRIPT));
+                idleSteps = newCards.isEmpty() && atBottom ? idleSteps + 1 : 0;
+
+                // Give lazy loading a chance to render the next batch
+                WaitUtils.waitForPageToBeFullyLoaded(driver, Duration.ofSeconds(2));
+                logger.debug("Harvest step {}: {} new cards, {} total", step + 1, newCards.size(), harvested);
+            }
+
+            enqueue(queue, END_OF_STREAM, consumerResult);
+            consumerResult.get();
+            logger.info("Harvested {} distinct flight cards", harvested);
+            return harvested;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Flight harvesting interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Flight card consumer failed", e.getCause());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * Blocks while the consumer is behind, keeping memory bounded; fails fast if the consumer died
+     */
+    private static void enqueue(BlockingQueue<FlightCard> queue, FlightCard card, Future<?> consumerResult)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(card, 500, TimeUnit.MILLISECONDS)) {
+            if (consumerResult.isDone()) {
+                consumerResult.get();
+                throw new IllegalStateException("Flight card consumer stopped before the end of the stream");
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> collectNewCards(JavascriptExecutor js, boolean reset) {
+        return (List<Map<String, Object>>) js.executeScript(COLLECT_NEW_CARDS_SCRIPT, cardSelector, reset);
+    }
+}
@@ -5,11 +5,21 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import com.enuygun.qa.utils.WaitUtils;
+import com.enuygun.qa.config.ConfigManager;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 public class HomePage extends BasePage {
 
+    // Parsed search dates shared across page instances; the same few dates are reused by every search
+    private static final Map<String, LocalDate> PARSED_DATES = new ConcurrentHashMap<>();
+
     // Page Elements using Page Factory
     @FindBy(css = "[data-testid='enuygun-logo']")
     private WebElement logo;
@@ -297,23 +307,7 @@ public class HomePage extends BasePage {
                 click(dateField);
             }
             
-            // Try different approaches to set the date
-            try {
-                // First try: Wait for calendar popup and select from calendar
-                WaitUtils.waitForElementToBeVisible(driver, calendarPopupLocator);
-                selectDateFromCalendar(date);
-            } catch (Exception e) {
-                logger.debug("Calendar popup not found, trying direct input...");
-                try {
-                    // Second try: Direct input to date field
-                    dateField.clear();
-                    sendKeys(dateField, date);
-                } catch (Exception e2) {
-                    // Third try: Use JavaScript to set value
-                    ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
-                        "arguments[0].value = arguments[1];", dateField, date);
-                }
-            }
+            applyDate(dateField, date);
             
             logger.info("Selected departure date: {}", date);
             return this; // Fluent interface
@@ -339,23 +333,7 @@ public class HomePage extends BasePage {
                 click(dateField);
             }
             
-            // Try different approaches to set the date
-            try {
-                // First try: Wait for calendar popup and select from calendar
-                WaitUtils.waitForElementToBeVisible(driver, calendarPopupLocator);
-                selectDateFromCalendar(date);
-            } catch (Exception e) {
-                logger.debug("Calendar popup not found, trying direct input...");
-                try {
-                    // Second try: Direct input to date field
-                    dateField.clear();
-                    sendKeys(dateField, date);
-                } catch (Exception e2) {
-                    // Third try: Use JavaScript to set value
-                    ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
-                        "arguments[0].value = arguments[1];", dateField, date);
-                }
-            }
+            applyDate(dateField, date);
             
             logger.info("Selected return date: {}", date);
             return this; // Fluent interface
@@ -751,6 +729,108 @@ public class HomePage extends BasePage {
 
     // Helper Methods
     
+    /**
+     * Sets a date on an already opened date field, cheapest strategy first:
+     * jump straight to the calendar cell, inject the input value, click through
+     * the calendar months and finally type into the field.
+     * @param dateField Date input that was clicked to open the calendar
+     * @param date Date string in various formats (dd.MM.yyyy, yyyy-MM-dd, etc.)
+     */
+    private void applyDate(WebElement dateField, String date) {
+        String isoDate = convertDateToISOFormat(date);
+        
+        // First try: Target cell located by its data attributes, no month paging
+        if (jumpToCalendarCell(isoDate)) {
+            logger.debug("Date {} selected directly from calendar cell", isoDate);
+            return;
+        }
+        
+        // Second try: Set the underlying input value and fire the framework events
+        if (injectDateValue(dateField, date)) {
+            logger.debug("Date {} injected into date input", date);
+            return;
+        }
+        
+        try {
+            // Third try: Page through the calendar and click the date; injection may have closed it
+            if (!isElementVisible(calendarPopupLocator)) {
+                click(dateField);
+            }
+            WaitUtils.waitForElementToBeVisible(driver, calendarPopupLocator);
+            selectDateFromCalendar(date);
+        } catch (Exception e) {
+            logger.debug("Calendar selection failed, trying direct input...");
+            // Last try: Direct input to date field
+            dateField.clear();
+            sendKeys(dateField, date);
+        }
+    }
+    
+    /**
+     * Clicks the calendar cell for the given date if the widget has already rendered it.
+     * The cell is resolved in a single script call from its title/data-date attribute.
+     * @param isoDate Date in format "yyyy-MM-dd"
+     * @return true if the cell was found and clicked
+     */
+    private boolean jumpToCalendarCell(String isoDate) {
+        try {
+            Object clicked = ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+                "var iso = arguments[0];" +
+                "var cell = document.querySelector(" +
+                "  'button[title=\"' + iso + '\"], [data-date=\"' + iso + '\"] button, [data-date=\"' + iso + '\"]');" +
+                "if (!cell || cell.disabled || cell.getAttribute('aria-disabled') === 'true') { return false; }" +
+                "cell.scrollIntoView({block: 'center'});" +
+                "cell.click();" +
+                "return true;", isoDate);
+            
+            if (Boolean.TRUE.equals(clicked)) {
+                waitForCalendarToClose();
+                return true;
+            }
+        } catch (Exception e) {
+            logger.debug("Direct calendar cell selection failed for {}: {}", isoDate, e.getMessage());
+        }
+        return false;
+    }
+    
+    /**
+     * Sets the date input value through the native setter and dispatches input/change
+     * events so that framework-controlled inputs pick up the new value. The value is
+     * written in the field's own format (ISO for type="date", test.date.format otherwise)
+     * and only accepted if the widget still shows it after the picker closed, since a
+     * controlled input re-renders its own state over a value it rejected.
+     * @param dateField Date input element
+     * @param date Date string in various formats (dd.MM.yyyy, yyyy-MM-dd, etc.)
+     * @return true if the widget kept the requested date
+     */
+    private boolean injectDateValue(WebElement dateField, String date) {
+        try {
+            LocalDate requested = resolveDate(date);
+            String displayValue = "date".equalsIgnoreCase(dateField.getAttribute("type"))
+                    ? requested.format(DateTimeFormatter.ISO_LOCAL_DATE)
+                    : requested.format(DateTimeFormatter.ofPattern(ConfigManager.getDateFormat()));
+            ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
+                "var input = arguments[0];" +
+                "var setter = Object.getOwnPropertyDescriptor(window.HTMLInputElement.prototype, 'value').set;" +
+                "setter.call(input, arguments[1]);" +
+                "input.dispatchEvent(new Event('input', {bubbles: true}));" +
+                "input.dispatchEvent(new Event('change', {bubbles: true}));" +
+                "input.dispatchEvent(new Event('blur', {bubbles: true}));", dateField, displayValue);
+            
+            // Let the widget close and re-render before reading its state back
+            waitForCalendarToClose();
+            String shown = dateField.getDomProperty("value");
+            boolean kept = shown != null && !shown.isEmpty() && requested.equals(resolveDate(shown));
+            if (!kept) {
+                logger.debug("Date widget did not keep injected value {} (shows '{}')", displayValue, shown);
+            }
+            return kept;
+        } catch (Exception e) {
+            logger.debug("Date value injection failed for {}: {}", date, e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Selects a date from calendar popup
      * @param date Date string in various formats (dd.MM.yyyy, yyyy-MM-dd, etc.)
@@ -767,6 +847,9 @@ public class HomePage extends BasePage {
             WaitUtils.waitForElementToBeVisible(driver, calendarPopupLocator, Duration.ofSeconds(5));
             logger.debug("Calendar popup is visible");
             
+            // Bring the target month into view before looking for the date button
+            navigateToCalendarDate(resolveDate(date));
+            
             // Find and click the specific date button using title attribute
             By dateButtonLocator = By.xpath(String.format("//button[@title='%s']", isoDate));
             
@@ -806,13 +889,7 @@ public class HomePage extends BasePage {
                 }
             }
             
-            // Wait for calendar to close
-            try {
-                WaitUtils.waitForElementToDisappear(driver, calendarPopupLocator, Duration.ofSeconds(3));
-                logger.debug("Calendar popup closed successfully");
-            } catch (Exception e) {
-                logger.debug("Calendar may not have closed immediately, continuing...");
-            }
+            waitForCalendarToClose();
             
         } catch (Exception e) {
             logger.error("Failed to select date from calendar: {}", date, e);
@@ -820,6 +897,35 @@ public class HomePage extends BasePage {
         }
     }
     
+    private void waitForCalendarToClose() {
+        try {
+            WaitUtils.waitForElementToDisappear(driver, calendarPopupLocator, Duration.ofSeconds(3));
+            logger.debug("Calendar popup closed successfully");
+        } catch (Exception e) {
+            logger.debug("Calendar may not have closed immediately, continuing...");
+        }
+    }
+    
+    /**
+     * Parses a date string once and caches the result for subsequent calls
+     * @param date Date in format "dd.MM.yyyy", "yyyy-MM-dd" or with '/' separators
+     * @return Parsed date
+     */
+    private static LocalDate resolveDate(String date) {
+        return PARSED_DATES.computeIfAbsent(date, key -> {
+            String[] parts = key.trim().replace("-", ".").replace("/", ".").split("\\.");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid date format: " + key);
+            }
+            
+            // Handle different date formats (dd.MM.yyyy vs yyyy.MM.dd)
+            if (parts[0].length() == 4) {
+                return LocalDate.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            }
+            return LocalDate.of(Integer.parseInt(parts[2]), Integer.parseInt(parts[1]), Integer.parseInt(parts[0]));
+        });
+    }
+    
     /**
      * Convert date format from dd.MM.yyyy to yyyy-MM-dd (ISO format)
      * @param date Date in format "dd.MM.yyyy" (e.g., "16.09.2025")
@@ -827,21 +933,7 @@ public class HomePage extends BasePage {
      */
     private String convertDateToISOFormat(String date) {
         try {
-            String[] parts = date.split("\\.");
-            if (parts.length != 3) {
-                throw new IllegalArgumentException("Date format should be dd.MM.yyyy, got: " + date);
-            }
-            
-            String day = parts[0];
-            String month = parts[1];
-            String year = parts[2];
-            
-            // Ensure day and month are zero-padded
-            int dayInt = Integer.parseInt(day);
-            int monthInt = Integer.parseInt(month);
-            
-            return String.format("%s-%02d-%02d", year, monthInt, dayInt);
-            
+            return resolveDate(date).format(DateTimeFormatter.ISO_LOCAL_DATE);
         } catch (Exception e) {
             logger.error("Failed to convert date format: {}", date, e);
             throw new IllegalArgumentException("Invalid date format: " + date, e);
@@ -1026,21 +1118,12 @@ public class HomePage extends BasePage {
      */
     private String[] parseDate(String date) {
         try {
-            String normalizedDate = date.replace("-", ".").replace("/", ".");
-            String[] parts = normalizedDate.split("\\.");
-            
-            if (parts.length != 3) {
-                throw new IllegalArgumentException("Invalid date format: " + date);
-            }
-            
-            // Handle different date formats (dd.MM.yyyy vs yyyy.MM.dd)
-            if (parts[0].length() == 4) {
-                // yyyy.MM.dd format
-                return new String[]{parts[2], parts[1], parts[0]}; // [day, month, year]
-            } else {
-                // dd.MM.yyyy format
-                return new String[]{parts[0], parts[1], parts[2]}; // [day, month, year]
-            }
+            LocalDate parsed = resolveDate(date);
+            return new String[]{
+                String.format("%02d", parsed.getDayOfMonth()),
+                String.format("%02d", parsed.getMonthValue()),
+                String.valueOf(parsed.getYear())
+            }; // [day, month, year]
         } catch (Exception e) {
             logger.error("Failed to parse date: {}", date, e);
             throw new RuntimeException("Invalid date format: " + date, e);
@@ -1048,20 +1131,28 @@ public class HomePage extends BasePage {
     }
     
     /**
-     * Navigates calendar to specific month and year
-     * @param month Target month
-     * @param year Target year
+     * Navigates calendar forward until the target date is rendered.
+     * The number of clicks is bounded by the month distance from today.
+     * @param targetDate Date that should become visible in the calendar
      */
-    private void navigateToCalendarDate(String month, String year) {
+    private void navigateToCalendarDate(LocalDate targetDate) {
         try {
-            // Get current calendar month/year
-            By monthYearLocator = By.cssSelector(".calendar-header, .flatpickr-current-month, .month-year");
-            
-            // Navigation logic would depend on actual calendar implementation
-            // This is a placeholder for the navigation logic
-            logger.debug("Navigating calendar to month: {} year: {}", month, year);
-            
-            // Implementation would involve clicking next/prev buttons until reaching target month/year
+            String isoDate = targetDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
+            By targetCellLocator = By.cssSelector(String.format("button[title='%s'], [data-date='%s']", isoDate, isoDate));
+            By nextMonthLocator = By.cssSelector(".calendar-next, .next-month, button[aria-label*='Next'], button[aria-label*='Sonraki']");
+            
+            long maxClicks = Math.max(0, ChronoUnit.MONTHS.between(
+                    YearMonth.now(), YearMonth.from(targetDate)));
+            logger.debug("Navigating calendar to {} (at most {} month clicks)", isoDate, maxClicks);
+            
+            for (long clicks = 0; clicks < maxClicks && driver.findElements(targetCellLocator).isEmpty(); clicks++) {
+                List<WebElement> nextButtons = driver.findElements(nextMonthLocator);
+                if (nextButtons.isEmpty()) {
+                    logger.debug("Calendar next button not found, staying on current month");
+                    return;
+                }
+                click(nextButtons.get(0));
+            }
             
         } catch (Exception e) {
             logger.warn("Calendar navigation failed, using current month/year", e);
@@ -0,0 +1,229 @@
+package com.enuygun.qa.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.enuygun.qa.analysis.FlightAnalyticsReport;
+import com.enuygun.qa.analysis.PriceStats;
+import com.enuygun.qa.config.ConfigManager;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Renders report charts with JFreeChart on a dedicated worker pool
+ *
+ * Features:
+ * - Price distribution, latency percentile, latency distribution and error rate charts
+ * - Headless AWT rendering off the test threads, PNG written with maximum compression
+ * - Finished charts are linked into the ExtentReports test that requested them
+ * - {@link #awaitCompletion(long)} lets the suite wait for pending charts before flushing the report
+ */
+public class ChartRenderingService {
+    private static final Logger logger = LoggerFactory.getLogger(ChartRenderingService.class);
+    private static final String CHARTS_FOLDER = "charts";
+    private static final int PNG_COMPRESSION = 9;
+    private static final int WIDTH = ConfigManager.getIntProperty("chart.width", 1000);
+    private static final int HEIGHT = ConfigManager.getIntProperty("chart.height", 600);
+
+    private static volatile ChartRenderingService shared;
+
+    private final Path outputDirectory;
+    private final ExecutorService executor;
+    private final Queue<CompletableFuture<Path>> pending = new ConcurrentLinkedQueue<>();
+
+    static {
+        // Charts are rendered on CI agents without a display
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+    }
+
+    public ChartRenderingService(Path outputDirectory, int threads) {
+        this.outputDirectory = outputDirectory;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), daemonThreadFactory());
+    }
+
+    /**
+     * Service writing into the charts folder of the reports directory
+     */
+    public static ChartRenderingService shared() {
+        if (shared == null) {
+            synchronized (ChartRenderingService.class) {
+                if (shared == null) {
+                    int threads = ConfigManager.getIntProperty("chart.render.threads",
+                                                               Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+                    shared = new ChartRenderingService(Paths.get(ConfigManager.getReportsDirectory(), CHARTS_FOLDER), threads);
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Min, median and p90 price per airline
+     */
+    public CompletableFuture<Path> renderPriceDistribution(String name, FlightAnalyticsReport report) {
+        return submit(name, () -> {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            for (PriceStats stats : report.getByAirline()) {
+                dataset.addValue(stats.getMin(), "Min", stats.getGroup());
+                dataset.addValue(stats.getMedian(), "Median", stats.getGroup());
+                dataset.addValue(stats.getP90(), "P90", stats.getGroup());
+            }
+            return ChartFactory.createBarChart("Price Distribution by Airline", "Airline", "Price (TL)",
+                                               dataset, PlotOrientation.VERTICAL, true, true, false);
+        });
+    }
+
+    /**
+     * Latency percentiles per endpoint or page
+     * @param percentiles Percentile label (e.g. "p95") to latency in milliseconds, per series
+     */
+    public CompletableFuture<Path> renderLatencyPercentiles(String name, Map<String, Map<String, Double>> percentiles) {
+        return submit(name, () -> {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            percentiles.forEach((series, values) ->
+                    values.forEach((percentile, latency) -> dataset.addValue(latency, series, percentile)));
+            return ChartFactory.createLineChart("Latency Percentiles", "Percentile", "Latency (ms)",
+                                                dataset, PlotOrientation.VERTICAL, true, true, false);
+        });
+    }
+
+    /**
+     * Latency histogram of one measured operation
+     * @param distribution Bucket upper bound in milliseconds to sample count, see LatencyHistogram.getDistribution()
+     */
+    public CompletableFuture<Path> renderLatencyDistribution(String name, String series, NavigableMap<Double, Long> distribution) {
+        return submit(name, () -> {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            distribution.forEach((upperBound, samples) -> dataset.addValue(samples, series, "<= " + upperBound));
+            return ChartFactory.createBarChart("Latency Distribution: " + series, "Latency (ms)", "Samples",
+                                               dataset, PlotOrientation.VERTICAL, false, true, false);
+        });
+    }
+
+    /**
+     * Error rate over time
+     * @param errorRates Epoch milliseconds to error rate in percent
+     */
+    public CompletableFuture<Path> renderErrorRate(String name, NavigableMap<Long, Double> errorRates) {
+        return submit(name, () -> {
+            TimeSeries series = new TimeSeries("Error rate");
+            errorRates.forEach((timestamp, rate) -> series.addOrUpdate(new Millisecond(new Date(timestamp)), rate));
+            return ChartFactory.createTimeSeriesChart("Error Rate", "Time", "Errors (%)",
+                                                      new TimeSeriesCollection(series), false, true, false);
+        });
+    }
+
+    /**
+     * Waits until every chart submitted so far is written
+     * @return true if all charts finished within the timeout
+     */
+    public boolean awaitCompletion(long timeoutSeconds) {
+        CompletableFuture<?>[] futures = pending.toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(futures).get(timeoutSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Chart rendering did not finish within {} seconds", timeoutSeconds);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Individual failures are already logged by the render task
+            return true;
+        } finally {
+            for (CompletableFuture<?> future : futures) {
+                pending.remove(future);
+            }
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<Path> submit(String name, Supplier<JFreeChart> chartSupplier) {
+        ExtentTest test = ReportUtils.getCurrentTest();
+        Path file = outputDirectory.resolve(name + ".png");
+
+        CompletableFuture<Path> future = CompletableFuture
+                .supplyAsync(() -> write(chartSupplier.get(), file), executor)
+                .whenComplete((path, error) -> {
+                    if (error != null) {
+                        logger.error("Failed to render chart: {}", file, error);
+                    } else if (test != null) {
+                        linkToReport(test, name, path);
+                    }
+                });
+        pending.add(future);
+        return future;
+    }
+
+    private static Path write(JFreeChart chart, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                ChartUtils.writeChartAsPNG(out, chart, WIDTH, HEIGHT, false, PNG_COMPRESSION);
+            }
+            logger.info("Chart saved: {}", file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chart " + file, e);
+        }
+    }
+
+    private static void linkToReport(ExtentTest test, String name, Path chart) {
+        try {
+            // The report lives in the reports directory, so link the chart relative to it
+            Path reportsDirectory = Paths.get(ConfigManager.getReportsDirectory()).toAbsolutePath();
+            Path absoluteChart = chart.toAbsolutePath();
+            String link = absoluteChart.startsWith(reportsDirectory)
+                    ? reportsDirectory.relativize(absoluteChart).toString()
+                    : absoluteChart.toString();
+            synchronized (test) {
+                test.info("Chart: " + name, MediaEntityBuilder.createScreenCaptureFromPath(link).build());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to add chart to report: {}", chart, e);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "chart-renderer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
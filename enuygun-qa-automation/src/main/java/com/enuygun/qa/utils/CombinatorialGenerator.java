@@ -0,0 +1,329 @@
+package com.enuygun.qa.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Builds t-wise covering arrays (pairwise by default) for DataProviders
+ *
+ * Every combination of values of any t parameters appears in at least one generated row,
+ * so a run keeps the interaction coverage of the full cartesian product with far fewer rows.
+ *
+ * Features:
+ * - Any strength from 1 to the number of parameters
+ * - Constraints evaluated on partial rows (e.g. origin != destination); invalid tuples are never required
+ * - Tuples no valid row can contain are dropped individually; everything else is still covered
+ * - Deterministic greedy construction, so a nightly run always gets the same rows
+ *
+ * Usage:
+ * <pre>
+ * List&lt;Object[]&gt; rows = CombinatorialGenerator.pairwise()
+ *     .parameter("origin", "Istanbul", "Ankara", "Izmir")
+ *     .parameter("destination", "Istanbul", "Ankara", "Izmir")
+ *     .parameter("offset", 30, 45)
+ *     .constraint(row -&gt; !row.containsKey("origin") || !row.get("origin").equals(row.get("destination")))
+ *     .generate();
+ * </pre>
+ */
+public class CombinatorialGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(CombinatorialGenerator.class);
+
+    private final int strength;
+    private final List<String> names = new ArrayList<>();
+    private final List<Object[]> values = new ArrayList<>();
+    private final List<Predicate<Map<String, Object>>> constraints = new ArrayList<>();
+
+    public CombinatorialGenerator(int strength) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Strength must be at least 1: " + strength);
+        }
+        this.strength = strength;
+    }
+
+    public static CombinatorialGenerator pairwise() {
+        return new CombinatorialGenerator(2);
+    }
+
+    public CombinatorialGenerator parameter(String name, Object... parameterValues) {
+        if (parameterValues.length == 0) {
+            throw new IllegalArgumentException("Parameter has no values: " + name);
+        }
+        names.add(name);
+        values.add(parameterValues.clone());
+        return this;
+    }
+
+    /**
+     * Adds a constraint. It receives a partial row keyed by parameter name (unassigned parameters
+     * are absent) and must return false only if the assigned values already violate it.
+     */
+    public CombinatorialGenerator constraint(Predicate<Map<String, Object>> constraint) {
+        constraints.add(constraint);
+        return this;
+    }
+
+    /**
+     * @return Rows in parameter declaration order
+     */
+    public List<Object[]> generate() {
+        int parameterCount = names.size();
+        int t = Math.min(strength, parameterCount);
+        if (parameterCount == 0) {
+            return Collections.emptyList();
+        }
+
+        List<int[]> combinations = new ArrayList<>();
+        collectCombinations(new int[t], 0, 0, parameterCount, combinations);
+
+        // Uncovered (and constraint-valid) value tuples of every parameter combination
+        List<boolean[]> uncovered = new ArrayList<>(combinations.size());
+        int remaining = 0;
+        for (int[] combination : combinations) {
+            boolean[] tuples = new boolean[tupleCount(combination)];
+            int[] row = unassignedRow(parameterCount);
+            for (int index = 0; index < tuples.length; index++) {
+                decode(combination, index, row);
+                tuples[index] = isValid(row);
+                if (tuples[index]) {
+                    remaining++;
+                }
+            }
+            uncovered.add(tuples);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        int unreachable = 0;
+        while (remaining > 0) {
+            int[] seed = firstUncovered(uncovered);
+            int[] combination = combinations.get(seed[0]);
+            int[] row = buildRow(combination, seed[1], combinations, uncovered, parameterCount);
+            if (!isComplete(row)) {
+                // Greedy completion hit a dead end - search exhaustively before giving up on the seed
+                row = unassignedRow(parameterCount);
+                decode(combination, seed[1], row);
+                if (!completeRow(row, 0)) {
+                    // No valid row contains this tuple; drop it alone and keep covering the rest
+                    uncovered.get(seed[0])[seed[1]] = false;
+                    remaining--;
+                    unreachable++;
+                    continue;
+                }
+            }
+            remaining -= markCovered(row, combinations, uncovered);
+            rows.add(toValues(row));
+        }
+
+        if (unreachable > 0) {
+            logger.warn("{} tuples cannot be covered under the given constraints", unreachable);
+        }
+        logger.info("Generated {} rows covering all {}-wise interactions of {} parameters (cartesian product: {})",
+                    rows.size(), t, parameterCount, cartesianSize());
+        return rows;
+    }
+
+    /**
+     * @return [combination index, tuple index] of the first uncovered tuple
+     */
+    private static int[] firstUncovered(List<boolean[]> uncovered) {
+        for (int c = 0; c < uncovered.size(); c++) {
+            boolean[] tuples = uncovered.get(c);
+            for (int index = 0; index < tuples.length; index++) {
+                if (tuples[index]) {
+                    return new int[] {c, index};
+                }
+            }
+        }
+        throw new IllegalStateException("No uncovered tuple left");
+    }
+
+    private int[] buildRow(int[] seedCombination, int seedIndex, List<int[]> combinations, 
+                           List<boolean[]> uncovered, int parameterCount) {
+        int[] row = unassignedRow(parameterCount);
+
+        // Seed with the first uncovered tuple so every row makes progress
+        decode(seedCombination, seedIndex, row);
+
+        // Fill the remaining parameters with the value covering the most new tuples
+        for (int parameter = 0; parameter < parameterCount; parameter++) {
+            if (row[parameter] >= 0) {
+                continue;
+            }
+            int bestValue = -1;
+            int bestGain = -1;
+            for (int value = 0; value < values.get(parameter).length; value++) {
+                row[parameter] = value;
+                if (!isValid(row)) {
+                    continue;
+                }
+                int gain = countNewlyCovered(row, parameter, combinations, uncovered);
+                if (gain > bestGain) {
+                    bestGain = gain;
+                    bestValue = value;
+                }
+            }
+            row[parameter] = bestValue;
+            if (bestValue < 0) {
+                return row;
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Backtracking completion of the unassigned parameters from {@code parameter} on
+     * @return false if no assignment satisfies the constraints (the row is then left as given)
+     */
+    private boolean completeRow(int[] row, int parameter) {
+        if (parameter == row.length) {
+            return true;
+        }
+        if (row[parameter] >= 0) {
+            return completeRow(row, parameter + 1);
+        }
+        for (int value = 0; value < values.get(parameter).length; value++) {
+            row[parameter] = value;
+            if (isValid(row) && completeRow(row, parameter + 1)) {
+                return true;
+            }
+        }
+        row[parameter] = -1;
+        return false;
+    }
+
+    private int countNewlyCovered(int[] row, int parameter, List<int[]> combinations, List<boolean[]> uncovered) {
+        int gain = 0;
+        for (int c = 0; c < combinations.size(); c++) {
+            int[] combination = combinations.get(c);
+            if (contains(combination, parameter) && isAssigned(row, combination)
+                    && uncovered.get(c)[encode(combination, row)]) {
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    private int markCovered(int[] row, List<int[]> combinations, List<boolean[]> uncovered) {
+        int covered = 0;
+        for (int c = 0; c < combinations.size(); c++) {
+            int index = encode(combinations.get(c), row);
+            if (uncovered.get(c)[index]) {
+                uncovered.get(c)[index] = false;
+                covered++;
+            }
+        }
+        return covered;
+    }
+
+    private boolean isValid(int[] row) {
+        if (constraints.isEmpty()) {
+            return true;
+        }
+        Map<String, Object> partial = new HashMap<>();
+        for (int parameter = 0; parameter < row.length; parameter++) {
+            if (row[parameter] >= 0) {
+                partial.put(names.get(parameter), values.get(parameter)[row[parameter]]);
+            }
+        }
+        for (Predicate<Map<String, Object>> constraint : constraints) {
+            if (!constraint.test(partial)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectCombinations(int[] current, int depth, int start, int parameterCount, List<int[]> result) {
+        if (depth == current.length) {
+            result.add(current.clone());
+            return;
+        }
+        for (int parameter = start; parameter < parameterCount; parameter++) {
+            current[depth] = parameter;
+            collectCombinations(current, depth + 1, parameter + 1, parameterCount, result);
+        }
+    }
+
+    private int tupleCount(int[] combination) {
+        int count = 1;
+        for (int parameter : combination) {
+            count *= values.get(parameter).length;
+        }
+        return count;
+    }
+
+    /**
+     * Mixed-radix index of the row's values for the given parameter combination
+     */
+    private int encode(int[] combination, int[] row) {
+        int index = 0;
+        for (int parameter : combination) {
+            index = index * values.get(parameter).length + row[parameter];
+        }
+        return index;
+    }
+
+    private void decode(int[] combination, int index, int[] row) {
+        for (int i = combination.length - 1; i >= 0; i--) {
+            int radix = values.get(combination[i]).length;
+            row[combination[i]] = index % radix;
+            index /= radix;
+        }
+    }
+
+    private static boolean contains(int[] combination, int parameter) {
+        for (int p : combination) {
+            if (p == parameter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAssigned(int[] row, int[] combination) {
+        for (int parameter : combination) {
+            if (row[parameter] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isComplete(int[] row) {
+        for (int value : row) {
+            if (value < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] unassignedRow(int parameterCount) {
+        int[] row = new int[parameterCount];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private Object[] toValues(int[] row) {
+        Object[] result = new Object[row.length];
+        for (int parameter = 0; parameter < row.length; parameter++) {
+            result[parameter] = values.get(parameter)[row[parameter]];
+        }
+        return result;
+    }
+
+    private long cartesianSize() {
+        long size = 1;
+        for (Object[] parameterValues : values) {
+            size *= parameterValues.length;
+        }
+        return size;
+    }
+}
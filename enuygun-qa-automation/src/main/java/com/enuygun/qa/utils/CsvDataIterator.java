@@ -0,0 +1,181 @@
+package com.enuygun.qa.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Streams a CSV test data file into TestNG DataProvider rows
+ *
+ * Features:
+ * - Lazy: one CSV line is read per {@link #next()}, the file never has to fit in memory
+ * - Typed rows built by a mapper over header-named columns
+ * - Date offset columns (e.g. 30, 37) resolved to concrete dates once per distinct offset
+ * - Optional row filter (e.g. by test category)
+ * - Thread-safe, so it can back a {@code parallel = true} DataProvider
+ */
+public class CsvDataIterator implements Iterator<Object[]>, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(CsvDataIterator.class);
+
+    private final Path file;
+    private final CSVReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final Function<CsvRow, Object[]> mapper;
+    private final Predicate<CsvRow> filter;
+    private final DateResolver dateResolver = new DateResolver();
+    private Object[] nextRow;
+    private int rowCount;
+    private boolean closed;
+
+    public CsvDataIterator(Path file, Function<CsvRow, Object[]> mapper) {
+        this(file, mapper, row -> true);
+    }
+
+    public CsvDataIterator(Path file, Function<CsvRow, Object[]> mapper, Predicate<CsvRow> filter) {
+        this.file = file;
+        this.mapper = mapper;
+        this.filter = filter;
+        try {
+            this.reader = new CSVReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+            String[] header = reader.readNext();
+            if (header != null) {
+                for (int i = 0; i < header.length; i++) {
+                    columns.put(header[i].trim(), i);
+                }
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new RuntimeException("Failed to open CSV test data: " + file, e);
+        }
+        logger.info("Streaming test data from {}", file);
+    }
+
+    /**
+     * Iterator over the flight search CSV yielding
+     * [origin, destination, departureDate, returnDate, filterStartTime, filterEndTime]
+     * @param file CSV file in the flight-search-test-data.csv format
+     * @param category Test category to keep (e.g. "smoke"), or null for all rows
+     */
+    public static CsvDataIterator flightSearchRows(Path file, String category) {
+        return new CsvDataIterator(file,
+            row -> new Object[] {
+                row.get("origin"),
+                row.get("destination"),
+                row.getDate("departureDate"),
+                row.getDate("returnDate"),
+                row.get("filterStartTime"),
+                row.get("filterEndTime")
+            },
+            row -> category == null || category.equalsIgnoreCase(row.get("testCategory")));
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (nextRow == null && !closed) {
+            nextRow = readNextRow();
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public synchronized Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in " + file);
+        }
+        Object[] row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close CSV test data: {}", file, e);
+            }
+            logger.info("Streamed {} rows from {}", rowCount, file);
+        }
+    }
+
+    private Object[] readNextRow() {
+        try {
+            for (String[] values = reader.readNext(); values != null; values = reader.readNext()) {
+                if (values.length == 1 && values[0].trim().isEmpty()) {
+                    continue;
+                }
+                CsvRow row = new CsvRow(values);
+                if (filter.test(row)) {
+                    rowCount++;
+                    return mapper.apply(row);
+                }
+            }
+        } catch (IOException | CsvValidationException e) {
+            close();
+            throw new RuntimeException("Failed to read CSV test data: " + file, e);
+        }
+        // End of file - release the reader as soon as TestNG has drained the iterator
+        close();
+        return null;
+    }
+
+    /**
+     * One CSV line, accessed by header name
+     */
+    public class CsvRow {
+        private final String[] values;
+
+        private CsvRow(String[] values) {
+            this.values = values;
+        }
+
+        public String get(String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= values.length ? null : values[index].trim();
+        }
+
+        /**
+         * Column as a date in {@link ConfigManager#getDateFormat()}; numeric values are day offsets from today
+         */
+        public String getDate(String column) {
+            return dateResolver.resolve(get(column));
+        }
+    }
+
+    /**
+     * Resolves each distinct day offset once, against the date the iterator was created on
+     */
+    private static class DateResolver {
+        private final LocalDate today = LocalDate.now();
+        private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(ConfigManager.getDateFormat());
+        private final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+        String resolve(String value) {
+            if (value == null || value.isEmpty()) {
+                return value;
+            }
+            return resolved.computeIfAbsent(value, key ->
+                    key.chars().allMatch(Character::isDigit)
+                        ? today.plusDays(Integer.parseInt(key)).format(formatter)
+                        : key);
+        }
+    }
+}
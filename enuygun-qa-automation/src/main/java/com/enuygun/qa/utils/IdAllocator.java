@@ -0,0 +1,96 @@
+package com.enuygun.qa.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collision-free ID allocation for generated test data
+ *
+ * An ID is prefix * 1,000,000,000 + sequence. The prefix identifies the JVM fork (and the run),
+ * so parallel forks never share IDs. Within a fork each thread leases blocks of sequence numbers
+ * from an AtomicLong and hands them out without any further synchronization.
+ *
+ * Features:
+ * - Independent ID spaces per namespace (pet, category, tag, ...)
+ * - Fork prefix from test.data.id.prefix, otherwise from the run time and surefire.forkNumber
+ * - A fixed test.data.id.prefix makes single-threaded runs reproducible (e.g. for cassette replay)
+ * - 1,000,000,000 IDs per namespace and fork; IDs stay below 2^53 so JSON clients read them exactly
+ */
+public final class IdAllocator {
+    private static final Logger logger = LoggerFactory.getLogger(IdAllocator.class);
+
+    private static final long SEQUENCE_SPACE = 1_000_000_000L;
+    private static final long MAX_PREFIX = 9_000_000L;
+    private static final int BLOCK_SIZE = 1024;
+
+    private static final Map<String, IdAllocator> namespaces = new ConcurrentHashMap<>();
+    private static volatile long forkPrefix;
+
+    private final String namespace;
+    private final long base;
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final ThreadLocal<long[]> block = ThreadLocal.withInitial(() -> new long[] {0, 0});
+
+    private IdAllocator(String namespace, long prefix) {
+        this.namespace = namespace;
+        this.base = prefix * SEQUENCE_SPACE;
+    }
+
+    /**
+     * Allocator of the given namespace, shared by all threads of this fork
+     */
+    public static IdAllocator forNamespace(String namespace) {
+        return namespaces.computeIfAbsent(namespace, name -> new IdAllocator(name, getForkPrefix()));
+    }
+
+    /**
+     * @return Unique, positive ID of this namespace
+     */
+    public long nextId() {
+        // [next, end) of the current thread's leased block
+        long[] range = block.get();
+        if (range[0] == range[1]) {
+            long start = nextBlock.getAndAdd(BLOCK_SIZE);
+            if (start + BLOCK_SIZE > SEQUENCE_SPACE) {
+                throw new IllegalStateException("ID space exhausted for namespace: " + namespace);
+            }
+            range[0] = start;
+            range[1] = start + BLOCK_SIZE;
+        }
+        return base + range[0]++;
+    }
+
+    public static long getForkPrefix() {
+        if (forkPrefix == 0) {
+            synchronized (IdAllocator.class) {
+                if (forkPrefix == 0) {
+                    forkPrefix = resolveForkPrefix();
+                    logger.info("Test data ID prefix: {}", forkPrefix);
+                }
+            }
+        }
+        return forkPrefix;
+    }
+
+    private static long resolveForkPrefix() {
+        int configured = ConfigManager.getIntProperty("test.data.id.prefix", 0);
+        if (configured > 0) {
+            if (configured >= MAX_PREFIX) {
+                throw new IllegalArgumentException("test.data.id.prefix must be below " + MAX_PREFIX + ": " + configured);
+            }
+            return configured;
+        }
+        // Changes every 10 seconds so leftovers of earlier runs on a shared Petstore are not reused;
+        // the last two digits are the surefire fork number
+        long runSlot = System.currentTimeMillis() / 10_000 % 89_000 + 1_000;
+        // Surefire leaves the fork number empty when tests run in a single fork
+        String forkNumber = ConfigManager.getProperty("surefire.forkNumber", "").trim();
+        int fork = forkNumber.matches("\\d{1,9}") ? Integer.parseInt(forkNumber) : 0;
+        return runSlot * 100 + fork % 100;
+    }
+}
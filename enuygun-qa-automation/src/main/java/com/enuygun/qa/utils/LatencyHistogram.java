@@ -0,0 +1,186 @@
+package com.enuygun.qa.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log-linear latency histogram with microsecond resolution
+ *
+ * Values below 64µs get a bucket each; above that every power of two is split into 32
+ * buckets, so percentiles are within about 3% of the recorded value at any magnitude while
+ * memory stays fixed. Mean and standard deviation are kept exactly (Welford's algorithm).
+ *
+ * Features:
+ * - record(nanos) from System.nanoTime() deltas or record(duration, unit)
+ * - Percentiles, min, max, mean, standard deviation and coefficient of variation in milliseconds
+ * - 95% confidence interval of the mean (Student's t), for judging small samples
+ * - Coarse distribution for charts (see ChartRenderingService.renderLatencyDistribution)
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = 6;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - LINEAR_BITS) * SUB_BUCKETS;
+    // Two-sided 95% t quantiles for 1-30 degrees of freedom
+    private static final double[] T_95 = {12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+    private double mean;
+    private double squaredDeviations;
+
+    public synchronized void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts[bucketOf(micros)]++;
+        count++;
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+        double delta = micros - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (micros - mean);
+    }
+
+    public void record(long duration, TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMinMillis() {
+        return count == 0 ? 0 : minMicros / 1000.0;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxMicros / 1000.0;
+    }
+
+    public synchronized double getMeanMillis() {
+        return mean / 1000.0;
+    }
+
+    public synchronized double getStdDevMillis() {
+        return count < 2 ? 0 : Math.sqrt(squaredDeviations / (count - 1)) / 1000.0;
+    }
+
+    /**
+     * @return Standard deviation relative to the mean, 0 when there is no spread or no data
+     */
+    public synchronized double getCoefficientOfVariation() {
+        return mean == 0 ? 0 : getStdDevMillis() / getMeanMillis();
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of the mean, so the true mean lies in
+     * mean +/- this value; infinite below two samples
+     */
+    public synchronized double getMeanConfidenceHalfWidthMillis() {
+        if (count < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return tQuantile95(count - 1) * getStdDevMillis() / Math.sqrt(count);
+    }
+
+    /**
+     * @return Upper bound of the 95% confidence interval of the mean, the value to hold against a limit
+     */
+    public synchronized double getMeanUpperConfidenceMillis() {
+        return getMeanMillis() + getMeanConfidenceHalfWidthMillis();
+    }
+
+    /**
+     * @param percentile 0-100, e.g. 95 for p95
+     * @return Upper bound of the bucket holding the value at that rank, capped at the maximum
+     */
+    public synchronized double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), maxMicros) / 1000.0;
+            }
+        }
+        return maxMicros / 1000.0;
+    }
+
+    /**
+     * Counts in coarse buckets of about a quarter power of two, for charts
+     * @return Bucket upper bound in milliseconds to count, empty buckets left out
+     */
+    public synchronized NavigableMap<Double, Long> getDistribution() {
+        NavigableMap<Double, Long> distribution = new TreeMap<>();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (counts[bucket] > 0) {
+                distribution.merge(coarseUpperBoundMillis(upperBoundOf(bucket)), counts[bucket], Long::sum);
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * @return Common percentiles in milliseconds keyed by label (p50 ... max), for reports and charts
+     */
+    public synchronized Map<String, Double> getPercentiles() {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", getPercentileMillis(50));
+        percentiles.put("p75", getPercentileMillis(75));
+        percentiles.put("p90", getPercentileMillis(90));
+        percentiles.put("p95", getPercentileMillis(95));
+        percentiles.put("p99", getPercentileMillis(99));
+        percentiles.put("max", getMaxMillis());
+        return percentiles;
+    }
+
+    public synchronized String describe() {
+        return String.format("n=%d min=%.2fms p50=%.2fms p90=%.2fms p95=%.2fms p99=%.2fms max=%.2fms mean=%.2fms sd=%.2fms cv=%.2f",
+                count, getMinMillis(), getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(95),
+                getPercentileMillis(99), getMaxMillis(), getMeanMillis(), getStdDevMillis(), getCoefficientOfVariation());
+    }
+
+    private static double tQuantile95(long degreesOfFreedom) {
+        // Beyond the table the quantile of the next smaller tabulated sample size is used, which errs wide
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[(int) degreesOfFreedom - 1];
+        }
+        return degreesOfFreedom <= 40 ? 2.042 : degreesOfFreedom <= 60 ? 2.021 : degreesOfFreedom <= 120 ? 2.000 : 1.980;
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+
+    private static double coarseUpperBoundMillis(long micros) {
+        // Quarter powers of two of a millisecond: ..., 1, 1.19, 1.41, 1.68, 2, ... ms
+        double millis = Math.max(micros, 1) / 1000.0;
+        double quarterPower = Math.ceil(Math.log(millis) / Math.log(2) * 4) / 4;
+        return Math.round(Math.pow(2, quarterPower) * 100) / 100.0;
+    }
+}
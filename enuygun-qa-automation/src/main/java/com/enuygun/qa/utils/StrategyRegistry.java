@@ -0,0 +1,113 @@
+package com.enuygun.qa.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.enuygun.qa.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which UI strategy last worked for a feature on a given site version.
+ * Page objects with several fallback strategies try the recorded winner first
+ * instead of walking the whole cascade on every run.
+ *
+ * Winners are persisted to a properties file (config key "strategy.cache.file")
+ * so the choice survives between test runs.
+ */
+public class StrategyRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(StrategyRegistry.class);
+    private static final Path CACHE_FILE = Paths.get(ConfigManager.getProperty(
+            "strategy.cache.file", ConfigManager.getTestDataDirectory() + "/strategy-cache.properties"));
+    private static final Map<String, String> winners = new ConcurrentHashMap<>();
+
+    static {
+        loadWinners();
+    }
+
+    private StrategyRegistry() {
+        // Utility class
+    }
+
+    /**
+     * Orders strategy names so that the recorded winner comes first
+     * @param feature Feature the strategies implement (e.g. "departure-time-filter")
+     * @param siteVersion Version fingerprint of the site under test
+     * @param strategyNames Strategy names in default order
+     * @return Strategy names with the recorded winner moved to the front
+     */
+    public static List<String> order(String feature, String siteVersion, List<String> strategyNames) {
+        List<String> ordered = new ArrayList<>(strategyNames);
+        String winner = winners.get(key(feature, siteVersion));
+        if (winner != null && ordered.remove(winner)) {
+            ordered.add(0, winner);
+            logger.debug("Trying recorded strategy '{}' first for {} on site version {}", winner, feature, siteVersion);
+        }
+        return ordered;
+    }
+
+    /**
+     * Records the strategy that produced a verified result and persists it if it changed
+     */
+    public static void recordWinner(String feature, String siteVersion, String strategyName) {
+        String previous = winners.put(key(feature, siteVersion), strategyName);
+        if (!strategyName.equals(previous)) {
+            logger.info("Recorded strategy '{}' for {} on site version {}", strategyName, feature, siteVersion);
+            saveWinners();
+        }
+    }
+
+    /**
+     * Forgets the recorded winner, e.g. after it stopped working
+     */
+    public static void clearWinner(String feature, String siteVersion) {
+        if (winners.remove(key(feature, siteVersion)) != null) {
+            saveWinners();
+        }
+    }
+
+    private static String key(String feature, String siteVersion) {
+        return feature + "@" + siteVersion;
+    }
+
+    private static void loadWinners() {
+        if (!Files.exists(CACHE_FILE)) {
+            return;
+        }
+        try (InputStream input = Files.newInputStream(CACHE_FILE)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            properties.stringPropertyNames().forEach(name -> winners.put(name, properties.getProperty(name)));
+            logger.info("Loaded {} recorded strategies from {}", winners.size(), CACHE_FILE);
+        } catch (IOException e) {
+            logger.warn("Could not load strategy cache from {}: {}", CACHE_FILE, e.getMessage());
+        }
+    }
+
+    private static synchronized void saveWinners() {
+        try {
+            Path parent = CACHE_FILE.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "strategy-cache", ".tmp");
+
+            Properties properties = new Properties();
+            properties.putAll(winners);
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                properties.store(output, "Recorded UI strategy winners per site version");
+            }
+            Files.move(tempFile, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not persist strategy cache to {}: {}", CACHE_FILE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.enuygun.qa.utils;
+
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.config.ConfigManager.Binding;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Reporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Repeated, phase-by-phase timing of a UI scenario over a small pool of browsers
+ *
+ * Each browser of the pool runs the scenario warmUp times unmeasured (browser caches, CDN and
+ * JIT warm-up), then the browsers share the measured repetitions. Every phase is timed with
+ * System.nanoTime() into its own {@link LatencyHistogram}; the Navigation Timing entry of the
+ * page the scenario ends on is recorded alongside. Limits are held against the upper bound of
+ * the 95% confidence interval of the mean, so a few noisy samples neither pass nor fail a run.
+ *
+ * Features:
+ * - Defaults from configuration: performance.ui.warmup (2), performance.ui.repetitions (10),
+ *   performance.ui.browsers (1), error rate at most performance.error.rate.max (0.05)
+ * - Spans summing consecutive phases, e.g. submit through full list as "results page load"
+ * - "total" span of all phases of an iteration, recorded automatically
+ * - Phase breakdown attached to the report as text and a percentile chart
+ *
+ * Usage:
+ * <pre>
+ * UiPerformanceHarness.forScenario("flight search", (driver, timer) -&gt; {
+ *         HomePage homePage = timer.phase("home page", () -&gt; openHomePage(driver));
+ *         timer.phase("submit", homePage::clickSearchButton);
+ *     })
+ *     .limit("home page", ConfigManager.getIntProperty("performance.page.load.max", 5000))
+ *     .assertMet();
+ * </pre>
+ */
+public final class UiPerformanceHarness {
+    private static final Logger logger = LoggerFactory.getLogger(UiPerformanceHarness.class);
+    private static final String TOTAL = "total";
+    private static final String NAVIGATION_TIMING_SCRIPT =
+            "var entry = window.performance && performance.getEntriesByType"
+            + " ? performance.getEntriesByType('navigation')[0] : null;"
+            + " return entry ? [entry.responseStart, entry.domContentLoadedEventEnd, entry.loadEventEnd] : null;";
+    private static final String[] NAVIGATION_PHASES = {
+            "navigation: first byte", "navigation: DOM content loaded", "navigation: load"};
+
+    private final String scenarioName;
+    private final Scenario scenario;
+    private final Map<String, String[]> spans = new LinkedHashMap<>();
+    private final Map<String, Long> limits = new LinkedHashMap<>();
+    private int warmUp = ConfigManager.getIntProperty("performance.ui.warmup", 2);
+    private int repetitions = ConfigManager.getIntProperty("performance.ui.repetitions", 10);
+    private int browsers = ConfigManager.getIntProperty("performance.ui.browsers", 1);
+    private double maxErrorRate = Double.parseDouble(ConfigManager.getProperty("performance.error.rate.max", "0.05"));
+
+    /**
+     * One run of the measured user journey
+     */
+    @FunctionalInterface
+    public interface Scenario {
+        void run(WebDriver driver, PhaseTimer timer) throws Exception;
+    }
+
+    private UiPerformanceHarness(String scenarioName, Scenario scenario) {
+        this.scenarioName = scenarioName;
+        this.scenario = scenario;
+    }
+
+    /**
+     * @param scenarioName Stable name of the scenario, used in reports and chart file names
+     * @param scenario Journey to time; it starts from a fresh page load each iteration
+     */
+    public static UiPerformanceHarness forScenario(String scenarioName, Scenario scenario) {
+        return new UiPerformanceHarness(scenarioName, scenario);
+    }
+
+    public UiPerformanceHarness warmUp(int warmUp) {
+        this.warmUp = Math.max(0, warmUp);
+        return this;
+    }
+
+    public UiPerformanceHarness repetitions(int repetitions) {
+        this.repetitions = Math.max(2, repetitions);
+        return this;
+    }
+
+    /**
+     * Number of browsers sharing the repetitions; each one also runs the warm-up
+     */
+    public UiPerformanceHarness browsers(int browsers) {
+        this.browsers = Math.max(1, browsers);
+        return this;
+    }
+
+    /**
+     * Reports the sum of the phases from firstPhase through lastPhase under its own name
+     */
+    public UiPerformanceHarness span(String name, String firstPhase, String lastPhase) {
+        spans.put(name, new String[]{firstPhase, lastPhase});
+        return this;
+    }
+
+    /**
+     * Limits the upper 95% confidence bound of the mean of a phase or span
+     */
+    public UiPerformanceHarness limit(String phaseOrSpan, long maxMillis) {
+        limits.put(phaseOrSpan, maxMillis);
+        return this;
+    }
+
+    public UiPerformanceHarness maxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+        return this;
+    }
+
+    /**
+     * Measures and reports the scenario without asserting
+     */
+    public Result measure() {
+        // Resolved on the calling thread, where the test's environment and browser are bound;
+        // workers get the same binding so scenario code reads the test's configuration too
+        Binding configuration = ConfigManager.currentBinding();
+        WebDriverFactory.BrowserType browserType = WebDriverFactory.getBrowserTypeFromString(ConfigManager.getBrowser());
+        Duration implicitWait = Duration.ofSeconds(ConfigManager.getImplicitTimeout());
+        Duration pageLoadTimeout = Duration.ofSeconds(ConfigManager.getPageLoadTimeout());
+        int poolSize = Math.min(browsers, repetitions);
+        logger.info("Measuring {}: {} browsers, {} warm-up runs each, {} measured runs",
+                scenarioName, poolSize, warmUp, repetitions);
+
+        Map<String, LatencyHistogram> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+        AtomicInteger remaining = new AtomicInteger(repetitions);
+        AtomicInteger errors = new AtomicInteger();
+        List<String> lastError = Collections.synchronizedList(new ArrayList<>());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "ui-performance-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < poolSize; i++) {
+                workers.add(pool.submit(() -> {
+                    ConfigManager.bind(configuration);
+                    WebDriver driver = WebDriverFactory.createDriver(browserType);
+                    try {
+                        driver.manage().timeouts().implicitlyWait(implicitWait);
+                        driver.manage().timeouts().pageLoadTimeout(pageLoadTimeout);
+                        for (int run = 0; run < warmUp; run++) {
+                            runIteration(driver, null, errors, lastError);
+                        }
+                        while (remaining.getAndDecrement() > 0) {
+                            runIteration(driver, phases, errors, lastError);
+                        }
+                    } finally {
+                        WebDriverFactory.quitDriver();
+                        ConfigManager.clearEnvironment();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to run performance scenario: " + scenarioName, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while measuring: " + scenarioName, e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<String, LatencyHistogram> measured;
+        synchronized (phases) {
+            measured = new LinkedHashMap<>(phases);
+        }
+        String lastErrorMessage = lastError.isEmpty() ? null : lastError.get(lastError.size() - 1);
+        Result result = new Result(measured, errors.get(), evaluate(measured, errors.get(), lastErrorMessage));
+        report(result);
+        return result;
+    }
+
+    /**
+     * Measures the scenario and fails if a limit or the error rate does not hold
+     * @throws AssertionError listing every violated limit
+     */
+    public Result assertMet() {
+        Result result = measure();
+        if (!result.isMet()) {
+            String message = String.format("Performance of %s not within limits: %s",
+                    scenarioName, String.join("; ", result.getViolations()));
+            ReportUtils.logFail(message);
+            throw new AssertionError(message);
+        }
+        ReportUtils.logPass(String.format("Performance of %s within limits over %d runs", scenarioName, repetitions));
+        return result;
+    }
+
+    private void runIteration(WebDriver driver, Map<String, LatencyHistogram> phases,
+                              AtomicInteger errors, List<String> lastError) {
+        PhaseTimer timer = new PhaseTimer();
+        try {
+            scenario.run(driver, timer);
+        } catch (Exception | AssertionError e) {
+            // Failed warm-up runs are not counted; they often just prime the page
+            if (phases != null) {
+                errors.incrementAndGet();
+                lastError.add(e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+            logger.warn("Run of {} failed: {}", scenarioName, e.getMessage());
+            return;
+        }
+        if (phases == null) {
+            return;
+        }
+
+        Map<String, Long> iteration = new LinkedHashMap<>(timer.phaseNanos);
+        iteration.put(TOTAL, timer.phaseNanos.values().stream().mapToLong(Long::longValue).sum());
+        spans.forEach((name, bounds) -> {
+            Long spanNanos = sumPhases(timer.phaseNanos, bounds[0], bounds[1]);
+            if (spanNanos != null) {
+                iteration.put(name, spanNanos);
+            }
+        });
+        iteration.putAll(readNavigationTiming(driver));
+
+        synchronized (phases) {
+            iteration.forEach((phase, nanos) -> phases.computeIfAbsent(phase, ignored -> new LatencyHistogram()).record(nanos));
+        }
+    }
+
+    private static Long sumPhases(Map<String, Long> phaseNanos, String firstPhase, String lastPhase) {
+        long sum = 0;
+        boolean inSpan = false;
+        for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+            inSpan |= phase.getKey().equals(firstPhase);
+            if (inSpan) {
+                sum += phase.getValue();
+                if (phase.getKey().equals(lastPhase)) {
+                    return sum;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Long> readNavigationTiming(WebDriver driver) {
+        Map<String, Long> navigation = new LinkedHashMap<>();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return navigation;
+        }
+        try {
+            Object timing = ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING_SCRIPT);
+            if (timing instanceof List) {
+                List<?> values = (List<?>) timing;
+                for (int i = 0; i < NAVIGATION_PHASES.length && i < values.size(); i++) {
+                    double millis = ((Number) values.get(i)).doubleValue();
+                    if (millis > 0) {
+                        navigation.put(NAVIGATION_PHASES[i], Math.round(millis * 1_000_000));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Navigation Timing not available: {}", e.getMessage());
+        }
+        return navigation;
+    }
+
+    private List<String> evaluate(Map<String, LatencyHistogram> phases, int errors, String lastError) {
+        List<String> violations = new ArrayList<>();
+        double errorRate = (double) errors / repetitions;
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("error rate %.1f%% > %.1f%% (last: %s)", errorRate * 100, maxErrorRate * 100, lastError));
+        }
+        limits.forEach((phase, maxMillis) -> {
+            LatencyHistogram histogram = phases.get(phase);
+            if (histogram == null) {
+                violations.add("no measurement of " + phase);
+            } else if (histogram.getMeanUpperConfidenceMillis() > maxMillis) {
+                violations.add(String.format("%s mean %.0fms +/- %.0fms > %dms", phase, histogram.getMeanMillis(),
+                        histogram.getMeanConfidenceHalfWidthMillis(), maxMillis));
+            }
+        });
+        return violations;
+    }
+
+    private void report(Result result) {
+        StringBuilder breakdown = new StringBuilder(String.format("Performance of %s over %d runs (%d failed):",
+                scenarioName, repetitions, result.getErrors()));
+        result.getPhases().forEach((phase, histogram) -> breakdown.append(String.format(
+                "%n  %-32s mean %8.0fms +/- %6.0fms (95%% CI)  p50 %8.0fms  p90 %8.0fms  max %8.0fms  cv %.2f",
+                phase, histogram.getMeanMillis(), histogram.getMeanConfidenceHalfWidthMillis(),
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(90), histogram.getMaxMillis(),
+                histogram.getCoefficientOfVariation())));
+        logger.info(breakdown.toString());
+        ReportUtils.logInfo(breakdown.toString().replace(System.lineSeparator(), "<br/>"));
+        Reporter.log(breakdown.toString().replace(System.lineSeparator(), "<br/>"));
+
+        if (!result.getPhases().isEmpty()) {
+            Map<String, Map<String, Double>> percentiles = new LinkedHashMap<>();
+            result.getPhases().forEach((phase, histogram) -> percentiles.put(phase, histogram.getPercentiles()));
+            String chartName = "ui-performance-" + scenarioName.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase();
+            ChartRenderingService.shared().renderLatencyPercentiles(chartName, percentiles);
+        }
+    }
+
+    /**
+     * Times the phases of one run; phases are reported in the order they first ran
+     */
+    public static final class PhaseTimer {
+        private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+        public <T> T phase(String name, Callable<T> step) throws Exception {
+            long startNanos = System.nanoTime();
+            T value = step.call();
+            phaseNanos.merge(name, System.nanoTime() - startNanos, Long::sum);
+            return value;
+        }
+
+        public void phase(String name, Runnable step) {
+            long startNanos = System.nanoTime();
+            step.run();
+            phaseNanos.merge(name, System.nanoTime() - startNanos, Long::sum);
+        }
+    }
+
+    /**
+     * Measured phases and the limits they violated
+     */
+    public static final class Result {
+        private final Map<String, LatencyHistogram> phases;
+        private final int errors;
+        private final List<String> violations;
+
+        private Result(Map<String, LatencyHistogram> phases, int errors, List<String> violations) {
+            this.phases = Collections.unmodifiableMap(phases);
+            this.errors = errors;
+            this.violations = Collections.unmodifiableList(violations);
+        }
+
+        public boolean isMet() {
+            return violations.isEmpty();
+        }
+
+        /**
+         * @return Histogram per phase, span, "total" and Navigation Timing mark, in first-run order
+         */
+        public Map<String, LatencyHistogram> getPhases() {
+            return phases;
+        }
+
+        public LatencyHistogram getPhase(String phaseOrSpan) {
+            return phases.get(phaseOrSpan);
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        public List<String> getViolations() {
+            return violations;
+        }
+    }
+}
@@ -18,11 +18,17 @@ import java.util.function.Function;
 
 public class WaitUtils {
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
-    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(ConfigManager.getDefaultTimeout());
     private static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofMillis(500);
 
+    /**
+     * Read on every wait so timeout changes made during the run take effect
+     */
+    private static Duration defaultTimeout() {
+        return Duration.ofSeconds(ConfigManager.getDefaultTimeout());
+    }
+
     public static WebElement waitForElementToBeVisible(WebDriver driver, By locator) {
-        return waitForElementToBeVisible(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementToBeVisible(driver, locator, defaultTimeout());
     }
 
     public static WebElement waitForElementToBeVisible(WebDriver driver, By locator, Duration timeout) {
@@ -39,7 +45,7 @@ public class WaitUtils {
     }
 
     public static WebElement waitForElementToBeClickable(WebDriver driver, By locator) {
-        return waitForElementToBeClickable(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementToBeClickable(driver, locator, defaultTimeout());
     }
 
     public static WebElement waitForElementToBeClickable(WebDriver driver, By locator, Duration timeout) {
@@ -56,7 +62,7 @@ public class WaitUtils {
     }
 
     public static WebElement waitForElementPresence(WebDriver driver, By locator) {
-        return waitForElementPresence(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementPresence(driver, locator, defaultTimeout());
     }
 
     public static WebElement waitForElementPresence(WebDriver driver, By locator, Duration timeout) {
@@ -73,7 +79,7 @@ public class WaitUtils {
     }
 
     public static List<WebElement> waitForElementsPresence(WebDriver driver, By locator) {
-        return waitForElementsPresence(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementsPresence(driver, locator, defaultTimeout());
     }
 
     public static List<WebElement> waitForElementsPresence(WebDriver driver, By locator, Duration timeout) {
@@ -90,7 +96,7 @@ public class WaitUtils {
     }
 
     public static boolean waitForElementToDisappear(WebDriver driver, By locator) {
-        return waitForElementToDisappear(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementToDisappear(driver, locator, defaultTimeout());
     }
 
     public static boolean waitForElementToDisappear(WebDriver driver, By locator, Duration timeout) {
@@ -107,7 +113,7 @@ public class WaitUtils {
     }
 
     public static boolean waitForTextToBePresentInElement(WebDriver driver, By locator, String text) {
-        return waitForTextToBePresentInElement(driver, locator, text, DEFAULT_TIMEOUT);
+        return waitForTextToBePresentInElement(driver, locator, text, defaultTimeout());
     }
 
     public static boolean waitForTextToBePresentInElement(WebDriver driver, By locator, String text, Duration timeout) {
@@ -124,7 +130,7 @@ public class WaitUtils {
     }
 
     public static boolean waitForUrlToContain(WebDriver driver, String urlFragment) {
-        return waitForUrlToContain(driver, urlFragment, DEFAULT_TIMEOUT);
+        return waitForUrlToContain(driver, urlFragment, defaultTimeout());
     }
 
     public static boolean waitForUrlToContain(WebDriver driver, String urlFragment, Duration timeout) {
@@ -141,7 +147,7 @@ public class WaitUtils {
     }
 
     public static <T> T fluentWait(WebDriver driver, Function<WebDriver, T> condition) {
-        return fluentWait(driver, condition, DEFAULT_TIMEOUT, DEFAULT_POLLING_INTERVAL);
+        return fluentWait(driver, condition, defaultTimeout(), DEFAULT_POLLING_INTERVAL);
     }
 
     public static <T> T fluentWait(WebDriver driver, Function<WebDriver, T> condition, Duration timeout, Duration pollingInterval) {
@@ -319,4 +325,18 @@ public class WaitUtils {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Pauses for the given number of seconds using an explicit wait instead of Thread.sleep
+     */
+    public static void waitForSeconds(WebDriver driver, int seconds) {
+        try {
+            new FluentWait<>(driver)
+                .withTimeout(Duration.ofSeconds(seconds))
+                .pollingEvery(DEFAULT_POLLING_INTERVAL)
+                .until(d -> false);
+        } catch (TimeoutException e) {
+            logger.debug("Waited for {} seconds", seconds);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.enuygun.qa.api.tests;
+
+import com.enuygun.qa.api.cassette.CassetteFilter;
+import com.enuygun.qa.api.cassette.HttpCassette;
+import com.enuygun.qa.api.concurrency.AdaptiveConcurrencyLimiter;
+import com.enuygun.qa.config.TestConfig;
+import com.enuygun.qa.utils.IdAllocator;
+import com.enuygun.qa.utils.ReportUtils;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * API Utilities Test Cases
+ * Tests the helpers behind the API tests without calling an endpoint
+ *
+ * Test Coverage:
+ * - Test data ID allocation across threads and forks
+ * - HTTP cassette recording and replay (lookups, occurrences, canonical request keys)
+ * - Adaptive concurrency limit: increase under load, backoff on drops, permit hand-off
+ */
+public class ApiUtilitiesTest {
+
+    @Test(groups = {TestConfig.API_TEST}, priority = 1,
+          description = "ID allocator hands out unique IDs across threads")
+    public void testIdAllocatorIsUniqueAcrossThreads() throws Exception {
+        IdAllocator allocator = IdAllocator.forNamespace("allocator-test");
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int idsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(allocator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(ids.size(), threads * idsPerThread, "Allocated IDs should be unique");
+        long prefixBase = IdAllocator.getForkPrefix() * 1_000_000_000L;
+        Assert.assertTrue(ids.stream().allMatch(id -> id >= prefixBase && id < prefixBase + 1_000_000_000L),
+                          "IDs should lie in this fork's prefix range");
+        ReportUtils.logPass("Allocated " + ids.size() + " unique IDs on " + threads + " threads");
+    }
+
+    @Test(groups = {TestConfig.API_TEST}, priority = 2,
+          description = "Cassette replays recorded interactions by canonical key and occurrence")
+    public void testCassetteRecordsAndReplays() throws Exception {
+        Path directory = Files.createTempDirectory("cassette-test");
+        try {
+            // Stands in for the network behind the recording filter
+            Deque<Response> backend = new ArrayDeque<>();
+            backend.add(cannedResponse(200, "{\"id\":1,\"name\":\"rex\"}"));
+            backend.add(cannedResponse(404, "{\"message\":\"Pet not found\"}"));
+            backend.add(cannedResponse(200, "{\"id\":2,\"name\":\"tom\"}"));
+            Filter network = (request, response, context) -> backend.removeFirst();
+
+            HttpCassette recording = HttpCassette.record(directory, "petstore");
+            CassetteFilter recorder = new CassetteFilter(recording, false);
+            Assert.assertEquals(recorder.getMode(), CassetteFilter.Mode.RECORD);
+            given().filter(recorder).filter(network).get("http://petstore.invalid/v2/pet/1");
+            given().filter(recorder).filter(network).get("http://petstore.invalid/v2/pet/1");
+            given().filter(recorder).filter(network).contentType("application/json")
+                   .body("{\"id\": 2, \"name\": \"tom\"}").post("http://petstore.invalid/v2/pet");
+            recording.close();
+            Assert.assertTrue(backend.isEmpty(), "Every request should have been recorded");
+
+            HttpCassette replay = HttpCassette.replay(directory, "petstore");
+            Assert.assertEquals(replay.size(), 3);
+            HttpCassette.Interaction hit = replay.find("GET /v2/pet/1#0");
+            Assert.assertNotNull(hit, "Recorded key should be found");
+            Assert.assertEquals(hit.getStatusCode(), 200);
+            Assert.assertEquals(new String(hit.getBody(), StandardCharsets.UTF_8), "{\"id\":1,\"name\":\"rex\"}");
+            Assert.assertEquals(replay.find("GET /v2/pet/1#1").getStatusCode(), 404);
+            Assert.assertNull(replay.find("GET /v2/pet/1#2"), "Unrecorded occurrence should miss");
+            Assert.assertNull(replay.find("GET /v2/pet/99#0"), "Unrecorded request should miss");
+
+            // Any host works; a request repeated more often than recorded falls back to the latest occurrence
+            CassetteFilter player = new CassetteFilter(replay, false);
+            Assert.assertEquals(player.getMode(), CassetteFilter.Mode.REPLAY);
+            Assert.assertEquals(given().filter(player).get("http://localhost:1/v2/pet/1").getStatusCode(), 200);
+            Assert.assertEquals(given().filter(player).get("http://localhost:1/v2/pet/1").getStatusCode(), 404);
+            Assert.assertEquals(given().filter(player).get("http://localhost:1/v2/pet/1").getStatusCode(), 404);
+
+            // JSON field order and whitespace do not change the key
+            Response created = given().filter(player).contentType("application/json")
+                    .body("{\"name\":\"tom\",\"id\":2}").post("http://localhost:1/v2/pet");
+            Assert.assertEquals(created.getStatusCode(), 200);
+            Assert.assertEquals(created.jsonPath().getString("name"), "tom");
+
+            try {
+                given().filter(player).get("http://localhost:1/v2/pet/99");
+                Assert.fail("Replay miss without passthrough should fail the request");
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().contains("No recorded interaction"), e.getMessage());
+            }
+            ReportUtils.logPass("Cassette recorded and replayed " + replay.size() + " interactions");
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test(groups = {TestConfig.API_TEST}, priority = 3,
+          description = "Concurrency limit grows under load and backs off once per RTT on drops")
+    public void testConcurrencyLimiterAdaptsLimit() throws Exception {
+        // Slack far above the hold time, so only drops count as congestion
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 64, 0.5, 2.0, 10_000);
+
+        // Rounds using the whole limit, each request held ~20ms so the RTT is well above timer noise
+        for (int round = 0; round < 12; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int i = limiter.getLimit(); i > 0; i--) {
+                permits.add(limiter.acquire().getNow(null));
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+        }
+        int grown = limiter.getLimit();
+        Assert.assertTrue(grown > 4, "Limit should grow under load: " + grown);
+        Assert.assertEquals(limiter.getInFlight(), 0);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire().getNow(null);
+        AdaptiveConcurrencyLimiter.Permit second = limiter.acquire().getNow(null);
+        first.dropped();
+        Assert.assertEquals(limiter.getLimit(), grown / 2, "A drop should apply the backoff");
+        second.dropped();
+        Assert.assertEquals(limiter.getLimit(), grown / 2, "A second drop within one RTT should not back off again");
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        limiter.acquire().getNow(null).dropped();
+        Assert.assertEquals(limiter.getLimit(), Math.max(1, grown / 2 / 2), "A drop one RTT later should back off again");
+        ReportUtils.logPass("Concurrency limit grew to " + grown + " and backed off to " + limiter.getLimit());
+    }
+
+    @Test(groups = {TestConfig.API_TEST}, priority = 4,
+          description = "Concurrency limiter hands permits to waiters in order and does not leak timed-out ones")
+    public void testConcurrencyLimiterHandsOffPermits() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 0.5, 2.0, 10);
+
+        AdaptiveConcurrencyLimiter.Permit held = limiter.acquireBlocking(100);
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            waiters.add(limiter.acquire());
+        }
+        Assert.assertTrue(waiters.stream().noneMatch(CompletableFuture::isDone), "Waiters should queue at the limit");
+
+        held.ignore();
+        for (int i = 0; i < waiters.size(); i++) {
+            for (int j = 0; j < waiters.size(); j++) {
+                Assert.assertEquals(waiters.get(j).isDone(), j <= i, "Waiter " + j + " after " + (i + 1) + " releases");
+            }
+            Assert.assertEquals(limiter.getInFlight(), 1);
+            waiters.get(i).join().ignore();
+        }
+        Assert.assertEquals(limiter.getInFlight(), 0);
+
+        held = limiter.acquireBlocking(100);
+        try {
+            limiter.acquireBlocking(50);
+            Assert.fail("Waiting past the limit should time out");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("within 50ms"), e.getMessage());
+        }
+        Assert.assertEquals(limiter.getInFlight(), 1, "A timed-out wait should not hold a permit");
+        held.ignore();
+        Assert.assertEquals(limiter.getInFlight(), 0, "The timed-out waiter should not be granted on release");
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> next = limiter.acquire();
+        Assert.assertTrue(next.isDone(), "The permit should be free again");
+        next.join().ignore();
+        ReportUtils.logPass("Permits handed off in order without leaks");
+    }
+
+    private static Response cannedResponse(int statusCode, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine("HTTP/1.1 " + statusCode)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
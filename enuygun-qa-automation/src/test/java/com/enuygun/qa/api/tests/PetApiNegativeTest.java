@@ -2,6 +2,7 @@ package com.enuygun.qa.api.tests;
 
 import com.enuygun.qa.api.clients.PetApiClient;
 import com.enuygun.qa.api.utils.ApiUtils;
+import com.enuygun.qa.api.utils.ParsedResponse;
 import com.enuygun.qa.models.petstore.Pet;
 import com.enuygun.qa.utils.ReportUtils;
 import io.restassured.response.Response;
@@ -122,10 +123,8 @@ public class PetApiNegativeTest extends PetApiClient {
             "Unexpected status code for invalid status value: " + statusCode);
         
         if (statusCode == STATUS_OK || statusCode == STATUS_CREATED) {
-            // If accepted, clean up the created pet
-            long petId = response.jsonPath().getLong("id");
-            deletePet(petId);
-            ReportUtils.logInfo("Invalid status was accepted by API, pet cleaned up");
+            // If accepted, the created pet is deleted by the cleanup ledger
+            ReportUtils.logInfo("Invalid status was accepted by API, pet queued for cleanup");
         } else {
             ReportUtils.logPass("Invalid status properly rejected with status: " + statusCode);
         }
@@ -170,7 +169,7 @@ public class PetApiNegativeTest extends PetApiClient {
                 .extract()
                 .response();
             
-            logApiResponse(response.getStatusCode(), response.getTime(), response.getBody().asString());
+            logApiResponse(response);
             
             // Validate error response
             Assert.assertTrue(ApiUtils.validateStatusCode(response, STATUS_BAD_REQUEST) ||
@@ -270,8 +269,7 @@ public class PetApiNegativeTest extends PetApiClient {
         
         if (statusCode == STATUS_OK) {
             // If OK, should return empty array
-            Assert.assertTrue(response.jsonPath().getList("$").isEmpty() || 
-                             response.jsonPath().getList("$") != null,
+            Assert.assertTrue(ParsedResponse.of(response).json().isArray(),
                 "Expected empty array or valid response for invalid status");
             ReportUtils.logPass("Invalid status search returned OK with empty/valid response");
         } else {
@@ -309,10 +307,8 @@ public class PetApiNegativeTest extends PetApiClient {
             "Unexpected status code for long name: " + statusCode);
         
         if (statusCode == STATUS_OK || statusCode == STATUS_CREATED) {
-            // If accepted, clean up
-            long petId = response.jsonPath().getLong("id");
-            deletePet(petId);
-            ReportUtils.logPass("Long name was accepted by API, pet cleaned up");
+            // If accepted, the created pet is deleted by the cleanup ledger
+            ReportUtils.logPass("Long name was accepted by API, pet queued for cleanup");
         } else {
             ReportUtils.logPass("Long name properly rejected with status: " + statusCode);
         }
@@ -342,10 +338,8 @@ public class PetApiNegativeTest extends PetApiClient {
             "Unexpected status code for invalid photo URL: " + statusCode);
         
         if (statusCode == STATUS_OK || statusCode == STATUS_CREATED) {
-            // If accepted, clean up
-            long petId = response.jsonPath().getLong("id");
-            deletePet(petId);
-            ReportUtils.logInfo("Invalid photo URL was accepted by API, pet cleaned up");
+            // If accepted, the created pet is deleted by the cleanup ledger
+            ReportUtils.logInfo("Invalid photo URL was accepted by API, pet queued for cleanup");
         } else {
             ReportUtils.logPass("Invalid photo URL properly rejected with status: " + statusCode);
         }
@@ -1,25 +1,37 @@
 package com.enuygun.qa.api.tests;
 
+import com.enuygun.qa.api.clients.AsyncPetApiClient;
 import com.enuygun.qa.api.clients.PetApiClient;
+import com.enuygun.qa.api.fixtures.RequiresPet;
 import com.enuygun.qa.api.utils.ApiUtils;
+import com.enuygun.qa.api.utils.Eventually;
+import com.enuygun.qa.api.utils.LatencySla;
+import com.enuygun.qa.api.utils.ParsedResponse;
+import com.enuygun.qa.api.utils.StreamingArrayValidator;
 import com.enuygun.qa.models.petstore.Pet;
 import com.enuygun.qa.models.petstore.Category;
 import com.enuygun.qa.models.petstore.Tag;
 import com.enuygun.qa.utils.ReportUtils;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Pet API Positive Test Cases
  * Tests all CRUD operations for Pet endpoints with valid data
  * 
+ * Tests are independent: pets a test needs are declared with @RequiresPet and
+ * provisioned in bulk before the class, so methods can run in parallel.
+ * 
  * Test Coverage:
  * - Create Pet (POST /pet)
  * - Get Pet by ID (GET /pet/{petId})
@@ -27,6 +39,7 @@ import java.util.List;
  * - Delete Pet (DELETE /pet/{petId})
  * - Find Pets by Status (GET /pet/findByStatus)
  * - Find Pets by Tags (GET /pet/findByTags)
+ * - Bulk create/get/delete through the async client
  * 
  * Validations:
  * - Status codes
@@ -38,30 +51,15 @@ import java.util.List;
 public class PetApiTest extends PetApiClient {
     
     private static final Logger logger = LoggerFactory.getLogger(PetApiTest.class);
-    
-    private Pet testPet;
-    private long testPetId;
-    
-    @BeforeMethod
-    public void setupTestData() {
-        logTestStep("Setting up test data for Pet API tests");
-        
-        // Generate unique test data
-        String uniquePetName = ApiUtils.generateUniquePetName();
-        testPetId = ApiUtils.generateRandomPetId();
-        
-        // Create test pet with all required fields
-        testPet = Pet.createValidTestPet(uniquePetName)
-            .withId(testPetId);
-        
-        logger.info("Test pet created: {} (ID: {})", testPet.getName(), testPet.getId());
-        ReportUtils.logInfo("Test data initialized: Pet '" + testPet.getName() + "' with ID: " + testPet.getId());
-    }
+    private static final String PET_ARRAY_SCHEMA = "schemas/petstore/pet-array-schema.json";
     
     @Test(priority = 1, description = "Create a new pet with valid data")
     public void testCreatePet() {
         ReportUtils.logInfo("Starting test: Create Pet");
         
+        Pet testPet = Pet.createValidTestPet(ApiUtils.generateUniquePetName())
+            .withId(ApiUtils.generateRandomPetId());
+        
         Response response = createPet(testPet);
         
         // Validate response
@@ -72,22 +70,19 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-schema.json"),
             "Pet response schema validation failed");
         
-        // Store created pet ID for cleanup
-        testPetId = response.jsonPath().getLong("id");
-        testPet.setId(testPetId);
-        
-        ReportUtils.logPass("Pet created successfully with ID: " + testPetId);
+        ReportUtils.logPass("Pet created successfully with ID: " + ParsedResponse.of(response).getLong("id"));
     }
     
-    @Test(priority = 2, dependsOnMethods = "testCreatePet", 
-          description = "Retrieve pet by ID after creation")
+    @Test(priority = 2, description = "Retrieve an existing pet by ID")
+    @RequiresPet
     public void testGetPetById() {
         ReportUtils.logInfo("Starting test: Get Pet by ID");
         
-        Response response = getPetById(testPetId);
+        Pet testPet = fixturePet();
+        Response response = getPetById(testPet.getId());
         
         // Validate response
-        Assert.assertTrue(validatePetRetrieval(response, testPetId),
+        Assert.assertTrue(validatePetRetrieval(response, testPet.getId()),
             "Pet retrieval validation failed");
         
         // Validate JSON schema
@@ -95,26 +90,27 @@ public class PetApiTest extends PetApiClient {
             "Pet response schema validation failed");
         
         // Validate pet data integrity
-        String actualName = response.jsonPath().getString("name");
+        String actualName = ParsedResponse.of(response).getString("name");
         Assert.assertEquals(actualName, testPet.getName(), 
             "Retrieved pet name doesn't match expected");
         
-        String actualStatus = response.jsonPath().getString("status");
+        String actualStatus = ParsedResponse.of(response).getString("status");
         Assert.assertEquals(actualStatus, testPet.getStatus(),
             "Retrieved pet status doesn't match expected");
         
-        ReportUtils.logPass("Pet retrieved successfully by ID: " + testPetId);
+        ReportUtils.logPass("Pet retrieved successfully by ID: " + testPet.getId());
     }
     
-    @Test(priority = 3, dependsOnMethods = "testGetPetById",
-          description = "Update existing pet with new data")
+    @Test(priority = 3, description = "Update existing pet with new data")
+    @RequiresPet
     public void testUpdatePet() {
         ReportUtils.logInfo("Starting test: Update Pet");
         
         // Update pet data
+        Pet testPet = fixturePet();
         String updatedName = testPet.getName() + "_Updated";
         Pet updatedPet = new Pet()
-            .withId(testPetId)
+            .withId(testPet.getId())
             .withName(updatedName)
             .withCategory(Category.createCat())
             .withPhotoUrl("https://example.com/updated-photo.jpg")
@@ -134,13 +130,17 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-schema.json"),
             "Updated pet response schema validation failed");
         
-        // Verify the update by retrieving the pet
-        Response getResponse = getPetById(testPetId);
-        String actualUpdatedName = getResponse.jsonPath().getString("name");
+        // Verify the update by retrieving the pet once the backend reflects it
+        Response getResponse = Eventually.eventually("updated pet is returned by GET /pet/{petId}",
+                () -> getPetById(testPet.getId()))
+            .until(r -> r.getStatusCode() == STATUS_OK && updatedName.equals(ParsedResponse.of(r).getString("name")))
+            .describedBy(r -> r.getStatusCode() + " " + ParsedResponse.of(r).body())
+            .await();
+        String actualUpdatedName = ParsedResponse.of(getResponse).getString("name");
         Assert.assertEquals(actualUpdatedName, updatedName,
             "Pet name was not updated correctly");
         
-        String actualUpdatedStatus = getResponse.jsonPath().getString("status");
+        String actualUpdatedStatus = ParsedResponse.of(getResponse).getString("status");
         Assert.assertEquals(actualUpdatedStatus, Pet.STATUS_PENDING,
             "Pet status was not updated correctly");
         
@@ -160,26 +160,14 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateResponseTime(response, DEFAULT_RESPONSE_TIME_LIMIT),
             "Find pets by status response time validation failed");
         
-        // Validate JSON schema for array response
-        Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-array-schema.json"),
-            "Find pets by status array schema validation failed");
-        
-        // Validate response is an array
-        List<Object> pets = response.jsonPath().getList("$");
-        Assert.assertNotNull(pets, "Response should be an array");
-        
-        // If pets found, validate each has available status
-        if (!pets.isEmpty()) {
-            List<String> statuses = response.jsonPath().getList("status");
-            for (String status : statuses) {
-                if (status != null) {  // Some pets might not have status field
-                    Assert.assertEquals(status, Pet.STATUS_AVAILABLE,
-                        "Found pet with non-available status: " + status);
-                }
-            }
-        }
+        // Validate schema and status of every element in one streaming pass
+        StreamingArrayValidator.Result result = StreamingArrayValidator.forArraySchema(PET_ARRAY_SCHEMA)
+            .expect("status 'available'", pet -> !pet.hasNonNull("status")
+                || Pet.STATUS_AVAILABLE.equals(pet.get("status").asText()))
+            .validate(response);
+        Assert.assertTrue(result.isValid(), result.describeFailures());
         
-        ReportUtils.logPass("Found " + pets.size() + " pets with 'available' status");
+        ReportUtils.logPass("Found " + result.getElementCount() + " pets with 'available' status");
     }
     
     @Test(priority = 5, description = "Find pets by multiple statuses")
@@ -195,15 +183,15 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateResponseTime(response, DEFAULT_RESPONSE_TIME_LIMIT),
             "Find pets by multiple statuses response time validation failed");
         
-        // Validate JSON schema for array response
-        Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-array-schema.json"),
-            "Find pets by multiple statuses array schema validation failed");
-        
-        // Validate response is an array
-        List<Object> pets = response.jsonPath().getList("$");
-        Assert.assertNotNull(pets, "Response should be an array");
+        // Validate schema and status of every element in one streaming pass
+        List<String> expectedStatuses = Arrays.asList(Pet.STATUS_AVAILABLE, Pet.STATUS_PENDING);
+        StreamingArrayValidator.Result result = StreamingArrayValidator.forArraySchema(PET_ARRAY_SCHEMA)
+            .expect("status 'available' or 'pending'", pet -> !pet.hasNonNull("status")
+                || expectedStatuses.contains(pet.get("status").asText()))
+            .validate(response);
+        Assert.assertTrue(result.isValid(), result.describeFailures());
         
-        ReportUtils.logPass("Found " + pets.size() + " pets with 'available' or 'pending' status");
+        ReportUtils.logPass("Found " + result.getElementCount() + " pets with 'available' or 'pending' status");
     }
     
     @Test(priority = 6, description = "Find pets by tags")
@@ -219,15 +207,12 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateResponseTime(response, DEFAULT_RESPONSE_TIME_LIMIT),
             "Find pets by tags response time validation failed");
         
-        // Validate JSON schema for array response
-        Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-array-schema.json"),
-            "Find pets by tags array schema validation failed");
+        // Validate schema of every element in one streaming pass
+        StreamingArrayValidator.Result result = StreamingArrayValidator.forArraySchema(PET_ARRAY_SCHEMA)
+            .validate(response);
+        Assert.assertTrue(result.isValid(), result.describeFailures());
         
-        // Validate response is an array
-        List<Object> pets = response.jsonPath().getList("$");
-        Assert.assertNotNull(pets, "Response should be an array");
-        
-        ReportUtils.logPass("Found " + pets.size() + " pets with 'friendly' or 'playful' tags");
+        ReportUtils.logPass("Found " + result.getElementCount() + " pets with 'friendly' or 'playful' tags");
     }
     
     @Test(priority = 7, description = "Create pet with minimal required data")
@@ -255,13 +240,10 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-schema.json"),
             "Minimal pet response schema validation failed");
         
-        // Store ID for cleanup
-        long minimalPetId = response.jsonPath().getLong("id");
+        // Created pets are deleted by the cleanup ledger at the end of the suite
+        long minimalPetId = ParsedResponse.of(response).getLong("id");
         
         ReportUtils.logPass("Minimal pet created successfully with ID: " + minimalPetId);
-        
-        // Clean up - delete the created pet
-        deletePet(minimalPetId);
     }
     
     @Test(priority = 8, description = "Create different types of pets")
@@ -286,21 +268,17 @@ public class PetApiTest extends PetApiClient {
             Assert.assertTrue(ApiUtils.validateJsonSchema(response, "schemas/petstore/pet-schema.json"),
                 petTypes[i].getCategory().getName() + " response schema validation failed");
             
-            createdIds[i] = response.jsonPath().getLong("id");
+            createdIds[i] = ParsedResponse.of(response).getLong("id");
             ReportUtils.logPass(petTypes[i].getCategory().getName() + " created successfully with ID: " + createdIds[i]);
         }
-        
-        // Clean up - delete created pets
-        for (long petId : createdIds) {
-            deletePet(petId);
-        }
     }
     
-    @Test(priority = 9, dependsOnMethods = "testUpdatePet",
-          description = "Delete pet after all tests")
+    @Test(priority = 9, description = "Delete an existing pet")
+    @RequiresPet
     public void testDeletePet() {
         ReportUtils.logInfo("Starting test: Delete Pet");
         
+        long testPetId = fixturePet().getId();
         Response response = deletePet(testPetId);
         
         // Validate response
@@ -310,8 +288,12 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateResponseTime(response, DEFAULT_RESPONSE_TIME_LIMIT),
             "Delete pet response time validation failed");
         
-        // Verify deletion by trying to get the pet (should return 404)
-        Response getResponse = getPetById(testPetId);
+        // Verify deletion by trying to get the pet (should return 404 once the backend reflects it)
+        Response getResponse = Eventually.eventually("deleted pet is not found by GET /pet/{petId}",
+                () -> getPetById(testPetId))
+            .until(r -> r.getStatusCode() == STATUS_NOT_FOUND)
+            .describedBy(r -> r.getStatusCode() + " " + ParsedResponse.of(r).body())
+            .await();
         Assert.assertTrue(ApiUtils.validateStatusCode(getResponse, STATUS_NOT_FOUND),
             "Pet should not be found after deletion");
         
@@ -330,12 +312,49 @@ public class PetApiTest extends PetApiClient {
         Assert.assertTrue(ApiUtils.validateHeader(response, "Content-Type", null),
             "Content-Type header validation failed");
         
-        // Clean up
-        if (response.getStatusCode() == STATUS_OK || response.getStatusCode() == STATUS_CREATED) {
-            long headerTestPetId = response.jsonPath().getLong("id");
-            deletePet(headerTestPetId);
+        ReportUtils.logPass("Response headers validation completed");
+    }
+    
+    @Test(priority = 11, description = "Bulk create, get and delete pets through the async client")
+    public void testBulkPetLifecycle() throws Exception {
+        ReportUtils.logInfo("Starting test: Bulk Pet Lifecycle");
+        
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pets.add(Pet.createValidTestPet(ApiUtils.generateUniquePetName()).withId(ApiUtils.generateRandomPetId()));
         }
+        List<Long> petIds = pets.stream().map(Pet::getId).collect(Collectors.toList());
         
-        ReportUtils.logPass("Response headers validation completed");
+        try (AsyncPetApiClient asyncClient = AsyncPetApiClient.create()) {
+            List<HttpResponse<String>> created = asyncClient.createPets(pets).get(60, TimeUnit.SECONDS);
+            Assert.assertTrue(created.stream().allMatch(response -> response.statusCode() == STATUS_OK),
+                "All pets should be created");
+            
+            List<HttpResponse<String>> retrieved = asyncClient.getPets(petIds).get(60, TimeUnit.SECONDS);
+            for (int i = 0; i < pets.size(); i++) {
+                Assert.assertEquals(asyncClient.toPet(retrieved.get(i)).getName(), pets.get(i).getName(),
+                    "Retrieved pet should match the created pet in input order");
+            }
+            
+            List<HttpResponse<String>> deleted = asyncClient.deletePets(petIds).get(60, TimeUnit.SECONDS);
+            Assert.assertTrue(deleted.stream().allMatch(response -> response.statusCode() == STATUS_OK),
+                "All pets should be deleted");
+        }
+        
+        ReportUtils.logPass("Bulk lifecycle completed for " + pets.size() + " pets");
+    }
+    
+    @Test(priority = 12, description = "Get pet by ID meets its latency SLA")
+    @RequiresPet
+    public void testGetPetByIdLatencySla() {
+        ReportUtils.logInfo("Starting test: Get Pet by ID Latency SLA");
+        
+        long petId = fixturePet().getId();
+        
+        // Percentiles over repeated calls after warm-up, limits from performance.api.* configuration
+        LatencySla.Result result = LatencySla.forOperation("GET /pet/{petId}", () -> getPetById(petId))
+            .assertMet();
+        
+        ReportUtils.logPass("Get pet by ID p95: " + result.getHistogram().getPercentileMillis(95) + "ms");
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,21 @@
 package com.enuygun.qa.base;
 
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.enuygun.qa.utils.WebDriverFactory;
+import com.enuygun.qa.utils.WaitUtils;
 import com.enuygun.qa.utils.ScreenshotUtils;
 import com.enuygun.qa.utils.ReportUtils;
+import com.enuygun.qa.utils.ChartRenderingService;
 import com.enuygun.qa.config.ConfigManager;
 import org.openqa.selenium.WebDriver;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Map;
 
 public class BaseTestClass {
     protected static final Logger logger = LoggerFactory.getLogger(BaseTestClass.class);
@@ -46,13 +50,19 @@ public class BaseTestClass {
     }
 
     @BeforeMethod(alwaysRun = true)
-    public void beforeMethod(Method method) {
+    public void beforeMethod(Method method, ITestContext context) {
         try {
             testName = method.getName();
             logger.info("=== Starting Test: {} ===", testName);
             
-            // Initialize WebDriver
-            initializeDriver();
+            // Resolve this test's environment/browser parameters for the current thread
+            Map<String, String> parameters = context.getCurrentXmlTest().getAllParameters();
+            ConfigManager.useEnvironment(parameters.get("environment"), parameters);
+            
+            // Initialize WebDriver unless the test brings its own browsers
+            if (requiresBrowser(method)) {
+                initializeDriver();
+            }
             
             // Start ExtentReports test
             String testDescription = getTestDescription(method);
@@ -85,7 +95,9 @@ public class BaseTestClass {
                 Throwable throwable = result.getThrowable();
                 
                 // Take screenshot on failure
-                String screenshotPath = ScreenshotUtils.takeScreenshotOnFailure(driver, methodName, throwable);
+                String screenshotPath = getDriver() != null
+                        ? ScreenshotUtils.takeScreenshotOnFailure(getDriver(), methodName, throwable)
+                        : null;
                 
                 // Log failure in report
                 ReportUtils.logFail("Test failed: " + throwable.getMessage(), throwable);
@@ -104,6 +116,7 @@ public class BaseTestClass {
             // Always quit driver and end test reporting
             quitDriver();
             ReportUtils.endTest();
+            ConfigManager.clearEnvironment();
         }
     }
 
@@ -121,6 +134,9 @@ public class BaseTestClass {
         try {
             logger.info("=== Test Suite Execution Completed ===");
             
+            // Let charts rendered in the background finish so their links make it into the report
+            ChartRenderingService.shared().awaitCompletion(ConfigManager.getIntProperty("chart.render.timeout", 60));
+            
             // Flush ExtentReports
             ReportUtils.flushReport();
             
@@ -150,19 +166,39 @@ public class BaseTestClass {
 
     protected void quitDriver() {
         try {
-            if (driver != null) {
-                WebDriverFactory.quitDriver();
-                driver = null;
-                logger.debug("WebDriver quit successfully");
-            }
+            // Quit this thread's browser; with parallel data providers the shared field may point elsewhere
+            WebDriverFactory.quitDriver();
+            driver = null;
+            logger.debug("WebDriver quit successfully");
         } catch (Exception e) {
             logger.error("Error while quitting WebDriver", e);
         }
     }
 
+    /**
+     * Whether beforeMethod opens a browser for the test. Tests that manage their own
+     * browsers (e.g. through UiPerformanceHarness) override this to skip it.
+     */
+    protected boolean requiresBrowser(Method method) {
+        return true;
+    }
+
+    /**
+     * Browser of the current thread, or null if this thread has none. Rows of a parallel
+     * DataProvider share one test instance, so they must use this instead of the {@code driver} field,
+     * which holds whichever row's browser was created last.
+     */
+    protected WebDriver getDriver() {
+        try {
+            return WebDriverFactory.getDriver();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
     protected void navigateToUrl(String url) {
         try {
-            driver.get(url);
+            getDriver().get(url);
             logger.info("Navigated to URL: {}", url);
             ReportUtils.logInfo("Navigated to URL: " + url);
         } catch (Exception e) {
@@ -232,7 +268,7 @@ public class BaseTestClass {
             ReportUtils.logFail(failMessage);
             
             // Take screenshot on assertion failure
-            String screenshotPath = ScreenshotUtils.takeScreenshot(driver, testName + "_assertion_failed");
+            String screenshotPath = ScreenshotUtils.takeScreenshot(getDriver(), testName + "_assertion_failed");
             if (screenshotPath != null) {
                 ReportUtils.addScreenshot(screenshotPath);
             }
@@ -243,7 +279,7 @@ public class BaseTestClass {
 
     protected void takeScreenshot(String description) {
         try {
-            String screenshotPath = ScreenshotUtils.takeScreenshotWithCustomName(driver, testName + "_" + description);
+            String screenshotPath = ScreenshotUtils.takeScreenshotWithCustomName(getDriver(), testName + "_" + description);
             if (screenshotPath != null) {
                 ReportUtils.addScreenshot(screenshotPath);
                 ReportUtils.logInfo("Screenshot taken: " + description);
@@ -270,7 +306,7 @@ public class BaseTestClass {
                 
                 if (attempt < maxRetries) {
                     // Use explicit wait instead of Thread.sleep
-                    WaitUtils.waitForSeconds(driver, 1);
+                    WaitUtils.waitForSeconds(getDriver(), 1);
                 }
             }
         }
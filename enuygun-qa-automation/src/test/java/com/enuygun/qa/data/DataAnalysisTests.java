@@ -0,0 +1,356 @@
+package com.enuygun.qa.data;
+
+import com.enuygun.qa.analysis.FlightAnalyticsEngine;
+import com.enuygun.qa.analysis.FlightAnalyticsReport;
+import com.enuygun.qa.analysis.FlightDataset;
+import com.enuygun.qa.analysis.FlightDatasetWriter;
+import com.enuygun.qa.analysis.PriceStats;
+import com.enuygun.qa.analysis.SearchKey;
+import com.enuygun.qa.config.ConfigManager;
+import com.enuygun.qa.config.TestConfig;
+import com.enuygun.qa.models.FlightCard;
+import com.enuygun.qa.utils.ChartRenderingService;
+import com.enuygun.qa.utils.CombinatorialGenerator;
+import com.enuygun.qa.utils.CsvDataIterator;
+import com.enuygun.qa.utils.LatencyHistogram;
+import com.enuygun.qa.utils.ReportUtils;
+import com.opencsv.CSVReader;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Data Analysis Test Cases
+ * Tests the flight dataset pipeline without a browser
+ *
+ * Test Coverage:
+ * - Dataset export (append-only CSV per run)
+ * - Price aggregation by airline, departure hour and route
+ * - Background chart rendering
+ * - Streaming CSV test data rows
+ * - Pairwise test case reduction
+ * - Flight card text parsing
+ */
+public class DataAnalysisTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataAnalysisTests.class);
+
+    private Path workDirectory;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpWorkDirectory() throws Exception {
+        workDirectory = Files.createTempDirectory("data-analysis-tests");
+        logger.info("Data analysis work directory: {}", workDirectory);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUpWorkDirectory() throws Exception {
+        try (Stream<Path> paths = Files.walk(workDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 1,
+          description = "Dataset writer appends rows with search key and timestamp")
+    public void testDatasetWriterAppendsRows() throws Exception {
+        Path datasetFile = workDirectory.resolve("dataset.csv");
+        SearchKey searchKey = new SearchKey("Istanbul", "Ankara", "16.11.2026", "23.11.2026");
+
+        try (FlightDatasetWriter writer = new FlightDatasetWriter(datasetFile)) {
+            writer.append(searchKey, new FlightCard("k1", "10:25", 1234.56, "Pegasus", 0, 75, "text"));
+            writer.append(searchKey, new FlightCard("k2", "14:05", Double.NaN, "Ajet, Express", FlightCard.UNKNOWN, FlightCard.UNKNOWN, "text"));
+        }
+
+        // Re-opening appends instead of truncating and does not repeat the header
+        try (FlightDatasetWriter writer = new FlightDatasetWriter(datasetFile)) {
+            writer.append(searchKey, new FlightCard("k3", "18:40", 999.0, "THY", 1, 150, "text"));
+        }
+
+        List<String[]> rows;
+        try (Reader reader = Files.newBufferedReader(datasetFile, StandardCharsets.UTF_8);
+             CSVReader csvReader = new CSVReader(reader)) {
+            rows = csvReader.readAll();
+        }
+
+        Assert.assertEquals(rows.size(), 4, "Header plus three rows expected");
+        Assert.assertEquals(rows.get(0), FlightDatasetWriter.COLUMNS, "Unexpected header");
+
+        String[] first = rows.get(1);
+        Assert.assertFalse(first[0].isEmpty(), "Row timestamp missing");
+        Assert.assertEquals(first[1], searchKey.toString(), "Search key not written");
+        Assert.assertEquals(first[5], "10:25");
+        Assert.assertEquals(Double.parseDouble(first[6]), 1234.56);
+        Assert.assertEquals(first[8], "0");
+        Assert.assertEquals(first[9], "75");
+
+        String[] second = rows.get(2);
+        Assert.assertEquals(second[6], "", "Unknown price should be empty");
+        Assert.assertEquals(second[7], "Ajet, Express", "Airline with comma not escaped correctly");
+
+        Assert.assertEquals(rows.get(3)[7], "THY");
+
+        ReportUtils.logPass("Flight dataset written and read back with " + (rows.size() - 1) + " rows");
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 2,
+          description = "Analytics engine aggregates prices by airline, departure hour and route")
+    public void testAnalyticsEngineAggregatesByAirlineHourAndRoute() throws Exception {
+        SearchKey istanbulAnkara = new SearchKey("Istanbul", "Ankara", "16.11.2026", "23.11.2026");
+        SearchKey istanbulIzmir = new SearchKey("Istanbul", "Izmir", "16.11.2026", "23.11.2026");
+
+        try (FlightDatasetWriter writer = new FlightDatasetWriter(workDirectory.resolve("flight-dataset-a.csv"))) {
+            writer.append(istanbulAnkara, new FlightCard("a1", "10:05", 1000.0, "THY", 0, 60, "text"));
+            writer.append(istanbulAnkara, new FlightCard("a2", "10:45", 2000.0, "THY", 0, 80, "text"));
+            writer.append(istanbulAnkara, new FlightCard("a3", "11:15", 1500.0, "Pegasus", 0, FlightCard.UNKNOWN, "text"));
+            writer.append(istanbulAnkara, new FlightCard("a4", "11:30", Double.NaN, "Pegasus", 0, 60, "text"));
+        }
+        try (FlightDatasetWriter writer = new FlightDatasetWriter(workDirectory.resolve("flight-dataset-b.csv"))) {
+            writer.append(istanbulIzmir, new FlightCard("b1", "10:20", 3000.0, "THY", 1, 100, "text"));
+        }
+
+        FlightDataset dataset = FlightDataset.readDirectory(workDirectory);
+        Assert.assertEquals(dataset.size(), 5, "All rows of both files should be loaded");
+
+        FlightAnalyticsEngine engine = new FlightAnalyticsEngine(2);
+        FlightAnalyticsReport report;
+        try {
+            report = engine.analyze(dataset);
+        } finally {
+            engine.shutdown();
+        }
+
+        PriceStats thy = find(report.getByAirline(), "THY");
+        Assert.assertEquals(thy.getCount(), 3);
+        Assert.assertEquals(thy.getMin(), 1000.0);
+        Assert.assertEquals(thy.getAverage(), 2000.0);
+        Assert.assertEquals(thy.getMedian(), 2000.0);
+        Assert.assertEquals(thy.getP90(), 3000.0);
+        Assert.assertEquals(thy.getPricePerMinute(), (1000.0 / 60 + 2000.0 / 80 + 3000.0 / 100) / 3, 0.0001);
+
+        PriceStats pegasus = find(report.getByAirline(), "Pegasus");
+        Assert.assertEquals(pegasus.getCount(), 1, "Rows without price must be ignored");
+        Assert.assertTrue(Double.isNaN(pegasus.getPricePerMinute()), "No duration means no price per minute");
+
+        Assert.assertEquals(find(report.getByDepartureHour(), "10:00-11:00").getCount(), 3);
+        Assert.assertEquals(find(report.getByDepartureHour(), "11:00-12:00").getMin(), 1500.0);
+        Assert.assertEquals(find(report.getByRoute(), "Istanbul-Ankara").getMedian(), 1500.0);
+        Assert.assertEquals(find(report.getByRoute(), "Istanbul-Izmir").getCount(), 1);
+
+        ReportUtils.logPass("Analytics aggregated " + report.getRowCount() + " rows into "
+                            + report.getByAirline().size() + " airlines and " + report.getByRoute().size() + " routes");
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 3,
+          description = "Charts are rendered to PNG on the worker pool")
+    public void testChartsRenderedInBackground() throws Exception {
+        FlightDataset dataset = new FlightDataset();
+        dataset.add("Istanbul-Ankara", "THY", "10:05", 1000.0, 60);
+        dataset.add("Istanbul-Ankara", "Pegasus", "12:30", 800.0, 65);
+        FlightAnalyticsEngine engine = new FlightAnalyticsEngine(1);
+        FlightAnalyticsReport report = engine.analyze(dataset);
+        engine.shutdown();
+
+        Map<String, Double> latencies = new LinkedHashMap<>();
+        latencies.put("p50", 120.0);
+        latencies.put("p90", 240.0);
+        latencies.put("p99", 410.0);
+        Map<String, Map<String, Double>> percentiles = new LinkedHashMap<>();
+        percentiles.put("GET /pet", latencies);
+
+        TreeMap<Long, Double> errorRates = new TreeMap<>();
+        errorRates.put(1_700_000_000_000L, 0.0);
+        errorRates.put(1_700_000_060_000L, 2.5);
+
+        Path chartDirectory = workDirectory.resolve("charts");
+        ChartRenderingService service = new ChartRenderingService(chartDirectory, 2);
+        try {
+            List<Path> charts = Arrays.asList(
+                    service.renderPriceDistribution("price-distribution", report).get(),
+                    service.renderLatencyPercentiles("latency-percentiles", percentiles).get(),
+                    service.renderErrorRate("error-rate", errorRates).get());
+            Assert.assertTrue(service.awaitCompletion(10), "Pending charts should be finished");
+
+            for (Path chart : charts) {
+                byte[] bytes = Files.readAllBytes(chart);
+                Assert.assertTrue(bytes.length > 8 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G',
+                                  "Not a PNG file: " + chart);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        ReportUtils.logPass("Charts rendered to " + chartDirectory);
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 4,
+          description = "CSV data iterator streams filtered rows and resolves date offsets")
+    public void testCsvDataIteratorResolvesDateOffsets() throws Exception {
+        Path csv = workDirectory.resolve("flight-search.csv");
+        Files.write(csv, Arrays.asList(
+                "origin,destination,departureDate,returnDate,filterStartTime,filterEndTime,testCategory,description",
+                "Istanbul,Ankara,30,37,10:00,18:00,smoke,first",
+                "İstanbul,İzmir,45,52,09:00,17:00,regression,second",
+                "Ankara,Istanbul,01.12.2026,08.12.2026,14:00,22:00,smoke,literal dates"), StandardCharsets.UTF_8);
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(ConfigManager.getDateFormat());
+        try (CsvDataIterator rows = CsvDataIterator.flightSearchRows(csv, "smoke")) {
+            Assert.assertTrue(rows.hasNext());
+            Object[] first = rows.next();
+            Assert.assertEquals(first, new Object[] {"Istanbul", "Ankara",
+                    LocalDate.now().plusDays(30).format(formatter), LocalDate.now().plusDays(37).format(formatter),
+                    "10:00", "18:00"});
+
+            Object[] second = rows.next();
+            Assert.assertEquals(second[0], "Ankara", "Regression row should be filtered out");
+            Assert.assertEquals(second[2], "01.12.2026", "Literal dates should be kept");
+            Assert.assertFalse(rows.hasNext());
+        }
+
+        ReportUtils.logPass("CSV rows streamed with resolved dates");
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 5,
+          description = "Pairwise generator covers every valid value pair with fewer rows")
+    public void testPairwiseGeneratorCoversAllPairs() {
+        String[] cities = {"Istanbul", "Ankara", "Izmir", "Antalya", "Adana"};
+        List<Object[]> rows = CombinatorialGenerator.pairwise()
+                .parameter("origin", (Object[]) cities)
+                .parameter("destination", (Object[]) cities)
+                .parameter("offset", 30, 45, 60)
+                .parameter("window", "morning", "noon", "evening")
+                .constraint(row -> !row.containsKey("origin") || !row.get("origin").equals(row.get("destination")))
+                .generate();
+
+        Set<String> coveredPairs = new HashSet<>();
+        for (Object[] row : rows) {
+            Assert.assertNotEquals(row[0], row[1], "Constraint violated: " + Arrays.toString(row));
+            for (int i = 0; i < row.length; i++) {
+                for (int j = i + 1; j < row.length; j++) {
+                    coveredPairs.add(i + "=" + row[i] + "," + j + "=" + row[j]);
+                }
+            }
+        }
+
+        Object[][] values = {cities, cities, {30, 45, 60}, {"morning", "noon", "evening"}};
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i + 1; j < values.length; j++) {
+                for (Object first : values[i]) {
+                    for (Object second : values[j]) {
+                        if (i == 0 && j == 1 && first.equals(second)) {
+                            continue;
+                        }
+                        Assert.assertTrue(coveredPairs.contains(i + "=" + first + "," + j + "=" + second),
+                                          "Pair not covered: " + first + "/" + second);
+                    }
+                }
+            }
+        }
+
+        Assert.assertTrue(rows.size() < 5 * 4 * 3 * 3, "Covering set should be smaller than the cartesian product");
+        ReportUtils.logPass("All pairs covered with " + rows.size() + " rows");
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 5,
+          description = "Pairwise generator drops only the tuples no valid row can contain")
+    public void testPairwiseGeneratorSkipsUnreachableTuples() {
+        // x=1,y=1 passes every partial check but is rejected on every complete row
+        List<Object[]> rows = CombinatorialGenerator.pairwise()
+                .parameter("x", 0, 1)
+                .parameter("y", 0, 1)
+                .parameter("z", 0, 1)
+                .constraint(row -> row.size() < 3 || !(row.get("x").equals(1) && row.get("y").equals(1)))
+                .generate();
+
+        Set<String> coveredPairs = new HashSet<>();
+        for (Object[] row : rows) {
+            Assert.assertFalse(row[0].equals(1) && row[1].equals(1), "Constraint violated: " + Arrays.toString(row));
+            for (int i = 0; i < row.length; i++) {
+                for (int j = i + 1; j < row.length; j++) {
+                    coveredPairs.add(i + "=" + row[i] + "," + j + "=" + row[j]);
+                }
+            }
+        }
+
+        for (int i = 0; i < 3; i++) {
+            for (int j = i + 1; j < 3; j++) {
+                for (int first = 0; first < 2; first++) {
+                    for (int second = 0; second < 2; second++) {
+                        if (i == 0 && j == 1 && first == 1 && second == 1) {
+                            continue;
+                        }
+                        Assert.assertTrue(coveredPairs.contains(i + "=" + first + "," + j + "=" + second),
+                                          "Reachable pair not covered: " + i + "=" + first + "/" + j + "=" + second);
+                    }
+                }
+            }
+        }
+        ReportUtils.logPass("Reachable pairs covered with " + rows.size() + " rows");
+    }
+
+    private static PriceStats find(List<PriceStats> stats, String group) {
+        return stats.stream()
+                .filter(stat -> stat.getGroup().equals(group))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No statistics for " + group + " in " + Arrays.toString(stats.toArray())));
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 6,
+          description = "Flight card fields are read from the card text")
+    public void testFlightCardParsesCardText() {
+        FlightCard card = FlightCard.fromText("k1", "Pegasus 16.11.2026 9.45 SAW 11:00 ESB 1 sa 15 dk Aktarmasız 1.234,56 TL");
+        Assert.assertEquals(card.getDepartureTime(), "09:45", "Dates must not be read as times");
+        Assert.assertEquals(card.getPrice(), 1234.56);
+        Assert.assertEquals(card.getAirline(), "Pegasus");
+        Assert.assertEquals(card.getStops(), 0);
+        Assert.assertEquals(card.getDurationMinutes(), 75);
+
+        Assert.assertEquals(FlightCard.parseDepartureTime("Kalkış: 14:30"), "14:30");
+        Assert.assertNull(FlightCard.parseDepartureTime("25:10 12:70 2.450 TL"), "Invalid times and prices are not times");
+        ReportUtils.logPass("Flight card parsed from text: " + card);
+    }
+
+    @Test(groups = {TestConfig.DATA_TEST}, priority = 7,
+          description = "Latency histogram percentiles and confidence interval")
+    public void testLatencyHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getMinMillis(), 1.0, 0.001);
+        Assert.assertEquals(histogram.getMaxMillis(), 1000.0, 0.001);
+        Assert.assertEquals(histogram.getMeanMillis(), 500.5, 0.001);
+        for (double percentile : new double[]{50, 90, 95, 99}) {
+            double actual = histogram.getPercentileMillis(percentile);
+            Assert.assertTrue(actual >= percentile * 10 && actual <= percentile * 10 * 1.04,
+                              "p" + percentile + " should be within 4% of " + percentile * 10 + "ms but was " + actual);
+        }
+        Assert.assertEquals(histogram.getDistribution().values().stream().mapToLong(Long::longValue).sum(), 1000L,
+                            "Distribution should hold every sample");
+        // t(120) = 1.980 is used for 999 degrees of freedom: 1.980 * 288.82 / sqrt(1000)
+        Assert.assertEquals(histogram.getMeanConfidenceHalfWidthMillis(), 18.08, 0.01,
+                            "95% confidence interval of the mean should use the t quantile");
+        ReportUtils.logPass("Latency histogram: " + histogram.describe());
+    }
+}